@@ -0,0 +1,199 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DurabilityLevel;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.ValueInterner;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CachedAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.MappedAddressBook;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.StorageSettings;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * Creates the components of the application that do not depend on the UI, so that they are set up in the same way
+ * by {@link MainApp} and by {@link HeadlessApp}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {} // prevents instantiation
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Applies the settings of {@code config} that are global to the application, which are those of the logs.
+     * All other settings are given to the components that use them when they are created.
+     */
+    public static void applyGlobalSettings(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns the interner of person fields to be shared by the storage and the logic, which is switched on or off as
+     * set by {@code config}.
+     */
+    public static ValueInterner initValueInterner(Config config) {
+        return new ValueInterner(config.isValueInterningEnabled());
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the address book at {@code addressBookFilePath} in the format chosen by {@code config},
+     * and of the user prefs in {@code userPrefsStorage}, which saves the address book as required by the durability
+     * level of {@code config} and interns the persons it reads with {@code valueInterner}.
+     */
+    public static Storage initStorage(Config config, UserPrefsStorage userPrefsStorage, Path addressBookFilePath,
+            ValueInterner valueInterner) {
+        StorageSettings settings = new StorageSettings(config.getDurabilityLevel() != DurabilityLevel.NONE,
+                config.isParallelLoadEnabled(), valueInterner);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, addressBookFilePath, settings);
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage, settings),
+                config.getDurabilityLevel(), config.getGroupCommitIntervalMillis(),
+                config.getGroupCommitCommandLimit());
+    }
+
+    /**
+     * Returns the storage of the address book at {@code filePath} in the format chosen by {@code config}, with the
+     * given {@code settings}.
+     */
+    private static AddressBookStorage initAddressBookStorage(Config config, Path filePath,
+            StorageSettings settings) {
+        if (config.isBinaryStorageEnabled()) {
+            return new BinaryAddressBookStorage(filePath, settings);
+        } else if (config.isShardedStorageEnabled()) {
+            return new ShardedAddressBookStorage(filePath, ShardedAddressBookStorage.DEFAULT_SEGMENT_COUNT, settings);
+        } else if (config.isJournalStorageEnabled()) {
+            return new JournalAddressBookStorage(filePath, settings);
+        } else if (config.isWarmStartCacheEnabled()) {
+            return new CachedAddressBookStorage(
+                    new JsonAddressBookStorage(filePath, config.isCompactJsonEnabled(), settings));
+        } else {
+            return new JsonAddressBookStorage(filePath, config.isCompactJsonEnabled(), settings);
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, the data from the sample address book if it is not found,
+     * or an empty address book if errors occur when reading it.
+     */
+    public static ReadOnlyAddressBook readInitialData(Storage storage) {
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            initialData = new AddressBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initialData = new AddressBook();
+        }
+        return initialData;
+    }
+
+    /**
+     * Returns the binary address book at {@code archivePath}, opened read-only without decoding its persons, or
+     * {@code Optional.empty()} if it cannot be opened.
+     */
+    public static Optional<MappedAddressBook> openArchive(Path archivePath) {
+        try {
+            MappedAddressBook archive = MappedAddressBook.open(archivePath);
+            logger.info("Opened archive " + archivePath + " read-only with " + archive);
+            return Optional.of(archive);
+        } catch (IOException e) {
+            logger.warning("Problem while opening the archive " + archivePath + ": " + e
+                    + ". Will be opening the AddressBook instead");
+            return Optional.empty();
+        }
+    }
+}
@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path archivePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,18 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of a binary address book to open read-only instead of the usual address book, or null if the
+     * usual address book is to be opened.
+     */
+    public Path getArchivePath() {
+        return archivePath;
+    }
+
+    public void setArchivePath(Path archivePath) {
+        this.archivePath = archivePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +53,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String archivePathParameter = namedParameters.get("archive");
+        if (archivePathParameter != null && !FileUtil.isValidPath(archivePathParameter)) {
+            logger.warning("Invalid archive path " + archivePathParameter + ". Opening the address book instead.");
+            archivePathParameter = null;
+        }
+        appParameters.setArchivePath(archivePathParameter != null ? Paths.get(archivePathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +74,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getArchivePath(), otherAppParameters.getArchivePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, archivePath);
     }
 }
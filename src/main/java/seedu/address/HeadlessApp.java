@@ -0,0 +1,169 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.ValueInterner;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * An entry point to the application that runs commands without the GUI, so that it can be used on machines without
+ * a display and as part of a pipeline.
+ *
+ * Commands are read one per line from the script file given as an argument, or from the standard input if no script
+ * file (or {@value #STANDARD_INPUT}) is given. Blank lines and lines starting with {@value RunCommand#COMMENT_PREFIX}
+ * are skipped. The feedback of each command is written to the standard output and the error of each failed command
+ * to the standard error. Reading stops at the end of the input or after an {@code exit} command.
+ */
+public class HeadlessApp {
+
+    public static final String CONFIG_OPTION = "--config=";
+    public static final String STANDARD_INPUT = "-";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: " + HeadlessApp.class.getName()
+            + " [" + CONFIG_OPTION + "CONFIG_FILE] [SCRIPT_FILE | " + STANDARD_INPUT + "]";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private HeadlessApp() {} // prevents instantiation
+
+    /**
+     * Runs the commands given by {@code args}, then exits with {@link #EXIT_SUCCESS} if all of them succeeded,
+     * {@link #EXIT_COMMAND_FAILED} if any of them failed or the address book could not be saved, or
+     * {@link #EXIT_INVALID_ARGUMENTS} if {@code args} are invalid.
+     */
+    public static void main(String[] args) {
+        System.exit(launch(args));
+    }
+
+    /**
+     * Runs the commands given by {@code args} and returns the exit status of the application.
+     */
+    private static int launch(String[] args) {
+        Path configPath = null;
+        String scriptArgument = null;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION) && FileUtil.isValidPath(arg.substring(CONFIG_OPTION.length()))) {
+                configPath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (scriptArgument == null && (arg.equals(STANDARD_INPUT) || FileUtil.isValidPath(arg))) {
+                scriptArgument = arg;
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_INVALID_ARGUMENTS;
+            }
+        }
+
+        logger.info("=========================[ Initializing headless AddressBook ]======================");
+        Config config = AppInitializer.initConfig(configPath);
+        AppInitializer.applyGlobalSettings(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        ValueInterner valueInterner = AppInitializer.initValueInterner(config);
+        Storage storage = AppInitializer.initStorage(config, userPrefsStorage, userPrefs.getAddressBookFilePath(),
+                valueInterner);
+        Model model = new ModelManager(AppInitializer.readInitialData(storage), userPrefs);
+        Logic logic = new LogicManager(model, storage, valueInterner);
+
+        // System.out flushes on every line, which would make the output the bottleneck of a long script
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        int exitStatus;
+        try (BufferedReader in = openInput(scriptArgument)) {
+            exitStatus = run(logic, in, out, System.err);
+        } catch (IOException ioe) {
+            System.err.println(String.format(RunCommand.MESSAGE_CANNOT_READ, ioe.getMessage()));
+            exitStatus = EXIT_COMMAND_FAILED;
+        } finally {
+            out.flush();
+        }
+
+        logger.info("========================= [ Stopping headless Address Book ] =======================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(ioe));
+            exitStatus = EXIT_COMMAND_FAILED;
+        }
+        return exitStatus;
+    }
+
+    /**
+     * Returns a reader of the script file {@code scriptArgument}, or of the standard input if it is null or
+     * {@value #STANDARD_INPUT}.
+     */
+    private static BufferedReader openInput(String scriptArgument) throws IOException {
+        if (scriptArgument == null || scriptArgument.equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(scriptArgument));
+    }
+
+    /**
+     * Executes each command read from {@code in} with {@code logic}, writing its feedback to {@code out} and, if it
+     * fails, its error to {@code err}. {@code out} is flushed whenever no more input is ready, so that the feedback of
+     * commands typed or piped in one at a time is not held back.
+     *
+     * @return {@link #EXIT_COMMAND_FAILED} if any command failed, otherwise {@link #EXIT_SUCCESS}.
+     * @throws IOException if {@code in} cannot be read.
+     */
+    static int run(Logic logic, BufferedReader in, PrintStream out, PrintStream err) throws IOException {
+        boolean hasFailed = false;
+        int lineNumber = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(RunCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                hasFailed = true;
+                out.flush(); // keeps the output and errors in order when both go to the same place
+                err.println(String.format(RunCommand.MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+            }
+
+            if (!in.ready()) {
+                out.flush();
+            }
+        }
+        out.flush();
+        return hasFailed ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -11,10 +14,23 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS = 1000;
+    public static final int DEFAULT_GROUP_COMMIT_COMMAND_LIMIT = 100;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isValueInterningEnabled = false;
+    private boolean isJournalStorageEnabled = false;
+    private boolean isCompactJsonEnabled = false;
+    private boolean isBinaryStorageEnabled = false;
+    private boolean isShardedStorageEnabled = false;
+    private boolean isParallelLoadEnabled = false;
+    private boolean isProgressiveStartupEnabled = false;
+    private boolean isWarmStartCacheEnabled = false;
+    private DurabilityLevel durabilityLevel = DurabilityLevel.FSYNC_PER_COMMIT;
+    private long groupCommitIntervalMillis = DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS;
+    private int groupCommitCommandLimit = DEFAULT_GROUP_COMMIT_COMMAND_LIMIT;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +48,142 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if equal person fields read from storage or parsed from commands should share one instance.
+     */
+    public boolean isValueInterningEnabled() {
+        return isValueInterningEnabled;
+    }
+
+    public void setValueInterningEnabled(boolean isValueInterningEnabled) {
+        this.isValueInterningEnabled = isValueInterningEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be saved as a snapshot plus a journal of changes, instead of being
+     * rewritten in full on every change.
+     */
+    public boolean isJournalStorageEnabled() {
+        return isJournalStorageEnabled;
+    }
+
+    public void setJournalStorageEnabled(boolean isJournalStorageEnabled) {
+        this.isJournalStorageEnabled = isJournalStorageEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be saved as json without line breaks or indentation, which is smaller
+     * and faster to write but harder to read.
+     */
+    public boolean isCompactJsonEnabled() {
+        return isCompactJsonEnabled;
+    }
+
+    public void setCompactJsonEnabled(boolean isCompactJsonEnabled) {
+        this.isCompactJsonEnabled = isCompactJsonEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be saved in a compact binary format instead of json.
+     * Takes precedence over {@link #isJournalStorageEnabled()} and {@link #isCompactJsonEnabled()}.
+     */
+    public boolean isBinaryStorageEnabled() {
+        return isBinaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean isBinaryStorageEnabled) {
+        this.isBinaryStorageEnabled = isBinaryStorageEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be saved as json segment files listed by a manifest, so that a save
+     * rewrites only the segments that changed.
+     * Takes precedence over {@link #isJournalStorageEnabled()} and {@link #isCompactJsonEnabled()}, but not over
+     * {@link #isBinaryStorageEnabled()}.
+     */
+    public boolean isShardedStorageEnabled() {
+        return isShardedStorageEnabled;
+    }
+
+    public void setShardedStorageEnabled(boolean isShardedStorageEnabled) {
+        this.isShardedStorageEnabled = isShardedStorageEnabled;
+    }
+
+    /**
+     * Returns true if the persons of a json address book should be converted and validated on multiple threads while
+     * the file is being read.
+     */
+    public boolean isParallelLoadEnabled() {
+        return isParallelLoadEnabled;
+    }
+
+    public void setParallelLoadEnabled(boolean isParallelLoadEnabled) {
+        this.isParallelLoadEnabled = isParallelLoadEnabled;
+    }
+
+    /**
+     * Returns true if the window should be shown before the address book has been read, with the persons added to
+     * it as they are loaded in the background. Commands are refused until loading finishes.
+     */
+    public boolean isProgressiveStartupEnabled() {
+        return isProgressiveStartupEnabled;
+    }
+
+    public void setProgressiveStartupEnabled(boolean isProgressiveStartupEnabled) {
+        this.isProgressiveStartupEnabled = isProgressiveStartupEnabled;
+    }
+
+    /**
+     * Returns true if a binary copy of a json address book should be kept next to it, so that the json file can be
+     * loaded without being parsed while it is unchanged.
+     * Has no effect if the address book is not saved as a single json file.
+     */
+    public boolean isWarmStartCacheEnabled() {
+        return isWarmStartCacheEnabled;
+    }
+
+    public void setWarmStartCacheEnabled(boolean isWarmStartCacheEnabled) {
+        this.isWarmStartCacheEnabled = isWarmStartCacheEnabled;
+    }
+
+    /**
+     * Returns how soon changes to the address book are written and forced to the disk.
+     */
+    public DurabilityLevel getDurabilityLevel() {
+        return durabilityLevel;
+    }
+
+    public void setDurabilityLevel(DurabilityLevel durabilityLevel) {
+        requireNonNull(durabilityLevel);
+        this.durabilityLevel = durabilityLevel;
+    }
+
+    /**
+     * Returns the longest time that a change waits to be written, if the durability level is
+     * {@link DurabilityLevel#GROUP_COMMIT}.
+     */
+    public long getGroupCommitIntervalMillis() {
+        return groupCommitIntervalMillis;
+    }
+
+    public void setGroupCommitIntervalMillis(long groupCommitIntervalMillis) {
+        checkArgument(groupCommitIntervalMillis >= 0, "Group commit interval should not be negative");
+        this.groupCommitIntervalMillis = groupCommitIntervalMillis;
+    }
+
+    /**
+     * Returns the most commands whose changes wait to be written together, if the durability level is
+     * {@link DurabilityLevel#GROUP_COMMIT}.
+     */
+    public int getGroupCommitCommandLimit() {
+        return groupCommitCommandLimit;
+    }
+
+    public void setGroupCommitCommandLimit(int groupCommitCommandLimit) {
+        checkArgument(groupCommitCommandLimit > 0, "Group commit command limit should be positive");
+        this.groupCommitCommandLimit = groupCommitCommandLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +196,26 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isValueInterningEnabled == o.isValueInterningEnabled
+                && isJournalStorageEnabled == o.isJournalStorageEnabled
+                && isCompactJsonEnabled == o.isCompactJsonEnabled
+                && isBinaryStorageEnabled == o.isBinaryStorageEnabled
+                && isShardedStorageEnabled == o.isShardedStorageEnabled
+                && isParallelLoadEnabled == o.isParallelLoadEnabled
+                && isProgressiveStartupEnabled == o.isProgressiveStartupEnabled
+                && isWarmStartCacheEnabled == o.isWarmStartCacheEnabled
+                && durabilityLevel == o.durabilityLevel
+                && groupCommitIntervalMillis == o.groupCommitIntervalMillis
+                && groupCommitCommandLimit == o.groupCommitCommandLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isValueInterningEnabled, isJournalStorageEnabled,
+                isCompactJsonEnabled, isBinaryStorageEnabled, isShardedStorageEnabled,
+                isParallelLoadEnabled, isProgressiveStartupEnabled, isWarmStartCacheEnabled, durabilityLevel,
+                groupCommitIntervalMillis, groupCommitCommandLimit);
     }
 
     @Override
@@ -57,6 +223,17 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nValue interning enabled : " + isValueInterningEnabled);
+        sb.append("\nJournal storage enabled : " + isJournalStorageEnabled);
+        sb.append("\nCompact json enabled : " + isCompactJsonEnabled);
+        sb.append("\nBinary storage enabled : " + isBinaryStorageEnabled);
+        sb.append("\nSharded storage enabled : " + isShardedStorageEnabled);
+        sb.append("\nParallel load enabled : " + isParallelLoadEnabled);
+        sb.append("\nProgressive startup enabled : " + isProgressiveStartupEnabled);
+        sb.append("\nWarm start cache enabled : " + isWarmStartCacheEnabled);
+        sb.append("\nDurability level : " + durabilityLevel);
+        sb.append("\nGroup commit interval (ms) : " + groupCommitIntervalMillis);
+        sb.append("\nGroup commit command limit : " + groupCommitCommandLimit);
         return sb.toString();
     }
 
@@ -0,0 +1,22 @@
+package seedu.address.commons.core;
+
+/**
+ * How soon changes to the address book are written and forced to the disk, which trades the number of commands that
+ * can be run per second against the number of changes that a crash can lose.
+ */
+public enum DurabilityLevel {
+    /**
+     * Each change is written in the background as soon as possible, but is not forced to the disk, so a power failure
+     * may lose recent changes.
+     */
+    NONE,
+    /** Each change is written and forced to the disk before the command that made it completes. */
+    FSYNC_PER_COMMIT,
+    /**
+     * Changes are written in the background and forced to the disk together, once the group commit interval has
+     * passed since the first of them, or once the group commit command limit is reached, whichever comes first.
+     */
+    GROUP_COMMIT,
+    /** Changes are written and forced to the disk only when the application exits. */
+    ON_EXIT
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.exceptions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Signals that some records of a data set do not fulfill their constraints, and describes every failed constraint.
+ */
+public class InvalidRecordsException extends IllegalValueException {
+
+    /** Number of errors listed in the message. All errors are available from {@link #getErrors()}. */
+    private static final int MAX_ERRORS_IN_MESSAGE = 20;
+
+    private final List<RecordError> errors;
+
+    /**
+     * @param errors the failed constraints, which must not be empty.
+     */
+    public InvalidRecordsException(List<RecordError> errors) {
+        super(buildMessage(errors));
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    public List<RecordError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns a message that counts the failed constraints and lists the first few.
+     */
+    private static String buildMessage(List<RecordError> errors) {
+        requireNonNull(errors);
+        long invalidRecordCount = errors.stream().mapToInt(error -> error.recordNumber).distinct().count();
+        StringBuilder message = new StringBuilder(String.format("%d invalid record(s) found:", invalidRecordCount));
+        errors.stream().limit(MAX_ERRORS_IN_MESSAGE).forEach(error -> message.append('\n').append(error));
+        if (errors.size() > MAX_ERRORS_IN_MESSAGE) {
+            message.append(String.format("\n... and %d more error(s)", errors.size() - MAX_ERRORS_IN_MESSAGE));
+        }
+        return message.toString();
+    }
+
+    /**
+     * A failed constraint in one record of a data set.
+     */
+    public static class RecordError {
+        /** One-based position of the record in its data set. */
+        public final int recordNumber;
+        public final String message;
+
+        public RecordError(int recordNumber, String message) {
+            this.recordNumber = recordNumber;
+            this.message = requireNonNull(message);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof RecordError // instanceof handles nulls
+                    && recordNumber == ((RecordError) other).recordNumber
+                    && message.equals(((RecordError) other).message)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * recordNumber + message.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Record " + recordNumber + ": " + message;
+        }
+    }
+}
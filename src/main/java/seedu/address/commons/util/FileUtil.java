@@ -1,10 +1,20 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +22,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +84,121 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, atomically and forced to the disk as by {@link #writeAtomically}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)), true);
+    }
+
+    /**
+     * Writes the content written by {@code writer} to {@code file}, replacing the file only once the content is
+     * completely written (and forced to the disk, if {@code isSynced}), so that the file always holds either its old
+     * or its new content.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param isSynced true if the file should be forced to the disk before this returns. Writes are faster without
+     *     it, but a power failure may then lose the most recent of them.
+     */
+    public static void writeAtomically(Path file, StreamWriter writer, boolean isSynced) throws IOException {
+        moveAtomically(writeToTempFile(file, writer, isSynced), file, isSynced);
+    }
+
+    /**
+     * Writes the content written by {@code writer} to a new temporary file in the directory of {@code file}, and
+     * forces it to the disk if {@code isSynced}. The temporary file has the permissions of {@code file} if it exists,
+     * and the default permissions of new files otherwise, so that moving it over {@code file} keeps them.
+     *
+     * @return the path of the temporary file, which can be moved over {@code file} by {@link #moveAtomically}.
+     */
+    public static Path writeToTempFile(Path file, StreamWriter writer, boolean isSynced) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = createTempFile(absoluteFile);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            writer.writeTo(out);
+            out.flush();
+            if (isSynced) {
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Creates an empty temporary file next to {@code file}, which must be an absolute path, with the permissions of
+     * {@code file} if it exists.
+     * {@link Files#createTempFile} is not used, as it gives the file permissions that only its owner can read.
+     */
+    private static Path createTempFile(Path file) throws IOException {
+        Path tempFile;
+        while (true) {
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp";
+            tempFile = file.resolveSibling(file.getFileName() + "." + suffix);
+            try {
+                Files.createFile(tempFile);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // another temporary file has the same name, so try another one
+            }
+        }
+
+        PosixFileAttributeView attributes = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+        if (attributes != null && Files.exists(file)) {
+            try {
+                Files.setPosixFilePermissions(tempFile, attributes.readAttributes().permissions());
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        }
+        return tempFile;
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it, and then forces the
+     * directory of {@code target} to the disk if {@code isSynced}, so that the move itself survives a power failure.
+     */
+    public static void moveAtomically(Path source, Path target, boolean isSynced) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (isSynced) {
+            syncDirectory(target.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, on the platforms that allow a directory to be opened.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return; // e.g. on Windows, which cannot open a directory, and commits the move before it returns
+        }
+        try (FileChannel directoryChannel = channel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,73 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes equal immutable values to a single instance, like {@link String#intern()} does for strings.
+ * Values are only held weakly, so a value that is no longer used elsewhere can still be garbage collected.
+ *
+ * Safe for use by multiple threads. The values are spread by hash over segments that are locked independently, so
+ * threads interning different values, e.g. while loading an address book on several threads, rarely wait for each
+ * other.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class WeakInterner<T> {
+
+    /** Number of segments, which must be a power of two. */
+    private static final int SEGMENT_COUNT = 64;
+
+    private final List<Map<T, WeakReference<T>>> segments = new ArrayList<>(SEGMENT_COUNT);
+
+    public WeakInterner() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments.add(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there is
+     * none yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        Map<T, WeakReference<T>> canonicalValues = getSegment(value);
+        synchronized (canonicalValues) {
+            WeakReference<T> canonicalReference = canonicalValues.get(value);
+            T canonicalValue = canonicalReference == null ? null : canonicalReference.get();
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+            canonicalValues.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances currently held.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<T, WeakReference<T>> canonicalValues : segments) {
+            synchronized (canonicalValues) {
+                size += canonicalValues.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the segment that holds the canonical instance equal to {@code value}.
+     */
+    private Map<T, WeakReference<T>> getSegment(T value) {
+        int hash = value.hashCode();
+        hash ^= hash >>> 16; // so that values differing only in their high bits use different segments
+        return segments.get(hash & (SEGMENT_COUNT - 1));
+    }
+}
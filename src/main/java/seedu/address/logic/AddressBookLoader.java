@@ -0,0 +1,81 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads the initial address book into a model in the background, so that the window can be shown before the address
+ * book has been read.
+ *
+ * The address book is read on a background thread. Its persons are then added to the model in chunks, each added by
+ * {@code modelExecutor} (which runs them on the JavaFX application thread when the UI is running), and the next chunk
+ * is only handed over once the previous one has been added, so that the UI keeps responding while a large address
+ * book fills the person list.
+ */
+public class AddressBookLoader {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Supplier<ReadOnlyAddressBook> reader;
+    private final Model model;
+    private final Executor modelExecutor;
+    private final int chunkSize;
+
+    public AddressBookLoader(Supplier<ReadOnlyAddressBook> reader, Model model, Executor modelExecutor) {
+        this(reader, model, modelExecutor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a loader that adds the persons read by {@code reader} to {@code model} through {@code modelExecutor},
+     * {@code chunkSize} persons at a time.
+     */
+    AddressBookLoader(Supplier<ReadOnlyAddressBook> reader, Model model, Executor modelExecutor, int chunkSize) {
+        requireAllNonNull(reader, model, modelExecutor);
+        this.reader = reader;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Starts loading on a new background thread, and runs {@code onLoaded} through {@code modelExecutor} once every
+     * person has been added to the model.
+     */
+    public void start(Runnable onLoaded) {
+        Thread thread = new Thread(() -> load(onLoaded), "address-book-loader");
+        thread.setDaemon(true); // the application may be closed while it is still loading
+        thread.start();
+    }
+
+    /**
+     * Reads the address book and adds its persons to the model, then runs {@code onLoaded} through
+     * {@code modelExecutor}. Returns only once {@code onLoaded} has run.
+     * If loading fails, the persons added so far are kept, so that the application remains usable.
+     */
+    void load(Runnable onLoaded) {
+        try {
+            List<Person> persons = new ArrayList<>(reader.get().getPersonList());
+            for (int start = 0; start < persons.size(); start += chunkSize) {
+                List<Person> chunk = persons.subList(start, Math.min(start + chunkSize, persons.size()));
+                CompletableFuture.runAsync(() -> model.addInitialPersons(chunk), modelExecutor).join();
+            }
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load the address book: " + StringUtil.getDetails(e));
+        }
+        CompletableFuture.runAsync(onLoaded, modelExecutor).join();
+    }
+}
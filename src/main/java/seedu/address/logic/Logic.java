@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -10,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveStatus;
 
 /**
  * API of the Logic component
@@ -24,6 +27,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * True while the address book is still being loaded into the model, during which every command is refused.
+     */
+    ReadOnlyBooleanProperty loadingProperty();
+
     /**
      * Returns the AddressBook.
      *
@@ -40,6 +48,12 @@ public interface Logic {
      */
     ObservableList<String> getHistory();
 
+    /**
+     * Registers {@code listener} to be told how far the saved address book is behind the one in memory whenever that
+     * changes. The listener may be called from a background thread.
+     */
+    void addSaveStatusListener(Consumer<SaveStatus> listener);
+
     /**
      * Returns the user prefs' address book file path.
      */
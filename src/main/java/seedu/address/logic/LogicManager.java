@@ -2,9 +2,12 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -15,7 +18,10 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.exceptions.ReadOnlyModelException;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.ValueInterner;
+import seedu.address.storage.SaveStatus;
 import seedu.address.storage.Storage;
 
 /**
@@ -23,6 +29,9 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_LOADING = "The address book is still loading. Please try again once it has "
+            + "loaded.";
+    public static final String MESSAGE_READ_ONLY = "The address book is read-only, so it cannot be modified.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -30,12 +39,21 @@ public class LogicManager implements Logic {
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
     private boolean addressBookModified;
+    private final SimpleBooleanProperty loading = new SimpleBooleanProperty(false);
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, ValueInterner.DISABLED);
+    }
+
+    /**
+     * Creates a LogicManager whose commands intern the fields of the persons they add or edit with
+     * {@code valueInterner}, which should be the one that {@code storage} interns the persons it reads with.
+     */
+    public LogicManager(Model model, Storage storage, ValueInterner valueInterner) {
         this.model = model;
         this.storage = storage;
         history = new CommandHistory();
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(valueInterner);
 
         // Set addressBookModified to true whenever the models' address book is modified.
         model.getAddressBook().addListener(observable -> addressBookModified = true);
@@ -48,8 +66,13 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         try {
+            if (loading.get()) {
+                throw new CommandException(MESSAGE_LOADING);
+            }
             Command command = addressBookParser.parseCommand(commandText);
             commandResult = command.execute(model, history);
+        } catch (ReadOnlyModelException rome) {
+            throw new CommandException(MESSAGE_READ_ONLY, rome);
         } finally {
             history.add(commandText);
         }
@@ -66,6 +89,18 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Sets whether the address book is still being loaded into the model, during which every command is refused.
+     */
+    public void setLoading(boolean isLoading) {
+        loading.set(isLoading);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -81,6 +116,11 @@ public class LogicManager implements Logic {
         return history.getHistory();
     }
 
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {
+        storage.addSaveStatusListener(listener);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
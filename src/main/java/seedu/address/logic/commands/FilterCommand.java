@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.person.TagsMatchQueryPredicate;
+
+/**
+ * Finds and lists all persons in address book whose tags match the argument tag query.
+ * Tag names are case sensitive, while the operators AND, OR and NOT are not.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags match "
+            + "the specified query and displays them as a list with index numbers.\n"
+            + "A query is made of tags, each optionally preceded by NOT, joined by AND or OR. "
+            + "AND is applied before OR.\n"
+            + "Parameters: [NOT] TAG [AND|OR [NOT] TAG]...\n"
+            + "Example: " + COMMAND_WORD + " friends AND NOT colleagues OR family";
+
+    private final TagsMatchQueryPredicate predicate;
+
+    public FilterCommand(TagsMatchQueryPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && predicate.equals(((FilterCommand) other).predicate)); // state check
+    }
+}
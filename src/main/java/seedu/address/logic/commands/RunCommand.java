@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.util.ValueInterner;
+
+/**
+ * Runs the commands in a script file, one per line, as a single batch of changes to the address book.
+ *
+ * The changes made by the script are committed as one state, which a single undo reverts, and the address book is
+ * saved once after the whole script has run. A line that fails does not stop the script; its line number and
+ * failure are reported once every line has been run.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "The changes made by the script can be undone at once. Blank lines and lines starting with "
+            + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s.";
+    public static final String MESSAGE_FAILURES = "Ran %1$d commands from %2$s, of which %3$d failed:\n%4$s";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_CANNOT_READ = "Could not read script file: %1$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "This command cannot be run from a script.";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+    private final ValueInterner valueInterner;
+
+    /**
+     * Creates a RunCommand to run the commands in the script file at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        this(scriptPath, ValueInterner.DISABLED);
+    }
+
+    /**
+     * Creates a RunCommand to run the commands in the script file at {@code scriptPath}, which intern the fields of
+     * the persons they add or edit with {@code valueInterner}.
+     */
+    public RunCommand(Path scriptPath, ValueInterner valueInterner) {
+        requireNonNull(scriptPath);
+        requireNonNull(valueInterner);
+        this.scriptPath = scriptPath;
+        this.valueInterner = valueInterner;
+    }
+
+    /**
+     * Runs every command in the script. If the script cannot be read to the end, the changes made by the commands
+     * run before are kept.
+     *
+     * @throws CommandException if the script file cannot be read.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        AddressBookParser parser = new AddressBookParser(valueInterner);
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+
+        model.startBatch();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    runLine(commandText, parser, model, history);
+                } catch (CommandException | ParseException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, ioe.getMessage()), ioe);
+        } finally {
+            model.endBatch();
+        }
+
+        logger.info("Ran " + commandCount + " commands from " + scriptPath + ", " + failures.size() + " failed");
+        if (failures.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptPath));
+        }
+        return new CommandResult(String.format(MESSAGE_FAILURES, commandCount, scriptPath, failures.size(),
+                String.join("\n", failures)));
+    }
+
+    /**
+     * Parses and executes {@code commandText}, a line of the script.
+     */
+    private static void runLine(String commandText, AddressBookParser parser, Model model, CommandHistory history)
+            throws CommandException, ParseException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof UndoCommand || command instanceof RedoCommand || command instanceof RunCommand) {
+            // undo and redo would discard the uncommitted changes of the script, and scripts are not nested
+            throw new CommandException(MESSAGE_NOT_IN_SCRIPT);
+        }
+        command.execute(model, history);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -18,12 +19,26 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 
 /**
  * Parses input arguments and creates a new AddCommand object
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private final ValueInterner valueInterner;
+
+    public AddCommandParser() {
+        this(ValueInterner.DISABLED);
+    }
+
+    /**
+     * Creates a parser that interns the fields of the persons it parses with {@code valueInterner}.
+     */
+    public AddCommandParser(ValueInterner valueInterner) {
+        this.valueInterner = requireNonNull(valueInterner);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -38,10 +53,10 @@ public class AddCommandParser implements Parser<AddCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
         }
 
-        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
-        Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
-        Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
-        Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
+        Name name = valueInterner.intern(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+        Phone phone = valueInterner.intern(ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()));
+        Email email = valueInterner.intern(ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get()));
+        Address address = valueInterner.intern(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()));
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         Person person = new Person(name, phone, email, address, tagList);
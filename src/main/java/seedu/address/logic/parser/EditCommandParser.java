@@ -18,12 +18,26 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 
 /**
  * Parses input arguments and creates a new EditCommand object
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private final ValueInterner valueInterner;
+
+    public EditCommandParser() {
+        this(ValueInterner.DISABLED);
+    }
+
+    /**
+     * Creates a parser that interns the fields of the persons it parses with {@code valueInterner}.
+     */
+    public EditCommandParser(ValueInterner valueInterner) {
+        this.valueInterner = requireNonNull(valueInterner);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -44,16 +58,20 @@ public class EditCommandParser implements Parser<EditCommand> {
 
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            editPersonDescriptor.setName(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+            editPersonDescriptor.setName(
+                    valueInterner.intern(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get())));
         }
         if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            editPersonDescriptor.setPhone(ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()));
+            editPersonDescriptor.setPhone(
+                    valueInterner.intern(ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get())));
         }
         if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
-            editPersonDescriptor.setEmail(ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get()));
+            editPersonDescriptor.setEmail(
+                    valueInterner.intern(ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get())));
         }
         if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
-            editPersonDescriptor.setAddress(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()));
+            editPersonDescriptor.setAddress(
+                    valueInterner.intern(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get())));
         }
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editPersonDescriptor::setTags);
 
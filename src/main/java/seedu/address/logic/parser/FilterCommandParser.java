@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagsMatchQueryPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String OPERATOR_AND = "and";
+    private static final String OPERATOR_OR = "or";
+    private static final String OPERATOR_NOT = "not";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns an FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        List<TagQuery.Clause> clauses = new ArrayList<>();
+        Set<Tag> includedTags = new HashSet<>();
+        Set<Tag> excludedTags = new HashSet<>();
+        boolean isExpectingTag = true;
+        boolean isNegated = false;
+        for (String token : trimmedArgs.split("\\s+")) {
+            String operator = token.toLowerCase();
+            if (isExpectingTag && operator.equals(OPERATOR_NOT) && !isNegated) {
+                isNegated = true;
+            } else if (isExpectingTag && !isOperator(operator)) {
+                Tag tag = ParserUtil.parseTag(token);
+                (isNegated ? excludedTags : includedTags).add(tag);
+                isNegated = false;
+                isExpectingTag = false;
+            } else if (!isExpectingTag && operator.equals(OPERATOR_AND)) {
+                isExpectingTag = true;
+            } else if (!isExpectingTag && operator.equals(OPERATOR_OR)) {
+                clauses.add(new TagQuery.Clause(includedTags, excludedTags));
+                includedTags.clear();
+                excludedTags.clear();
+                isExpectingTag = true;
+            } else {
+                throw invalidFormat();
+            }
+        }
+
+        if (isExpectingTag) {
+            throw invalidFormat();
+        }
+        clauses.add(new TagQuery.Clause(includedTags, excludedTags));
+        return new FilterCommand(new TagsMatchQueryPredicate(new TagQuery(clauses)));
+    }
+
+    private static boolean isOperator(String word) {
+        return word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR) || word.equals(OPERATOR_NOT);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+}
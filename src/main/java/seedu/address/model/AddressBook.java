@@ -3,12 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Wraps all data at the address-book level
@@ -18,6 +21,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final ChangeLog changeLog = new ChangeLog();
+    private boolean isNotificationDeferred;
+    private boolean isModifiedWhileDeferred;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -45,9 +51,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: uniqueness is checked in one hashed pass and listeners are notified only once.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        changeLog.recordUnknownChange();
         indicateModified();
     }
 
@@ -57,7 +65,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            // the persons of another AddressBook are already known to be unique, so its index can be reused as is
+            persons.setPersons(((AddressBook) newData).persons);
+        } else {
+            persons.setPersons(newData.getPersonList());
+        }
+        changeLog.recordUnknownChange();
+        indicateModified();
     }
 
     //// person-level operations
@@ -70,12 +85,66 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position in the person list of the person equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this address book has a name containing any of {@code keywords},
+     * ignoring case. The predicate is answered from an index of name words, which it reads when tested.
+     */
+    public IndexedPersonPredicate nameContainsAnyKeyword(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.nameContainsAnyKeyword(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this address book has tags matching {@code query}.
+     * The predicate is answered from per-tag bitmaps, which it reads when tested.
+     */
+    public IndexedPersonPredicate tagsMatch(TagQuery query) {
+        requireNonNull(query);
+        return persons.tagsMatch(query);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        changeLog.recordChange(persons.asUnmodifiableObservableList().size() - 1, null, p);
+        indicateModified();
+    }
+
+    /**
+     * Inserts a person into the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        boolean isAppended = index == persons.asUnmodifiableObservableList().size();
+        persons.add(index, p);
+        if (isAppended) {
+            changeLog.recordChange(index, null, p);
+        } else {
+            changeLog.recordUnknownChange(); // the change log describes insertions at the end only
+        }
+        indicateModified();
+    }
+
+    /**
+     * Appends {@code persons} to the address book, notifying listeners once.
+     * None of the persons may already exist in the address book, nor be the same person as another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        int start = this.persons.asUnmodifiableObservableList().size();
+        this.persons.addAll(persons);
+        for (int i = 0; i < persons.size(); i++) {
+            changeLog.recordChange(start + i, null, persons.get(i));
+        }
         indicateModified();
     }
 
@@ -87,7 +156,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        changeLog.recordChange(index, target, editedPerson);
         indicateModified();
     }
 
@@ -96,7 +166,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        changeLog.recordChange(index, key, null);
         indicateModified();
     }
 
@@ -111,9 +182,33 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Notifies listeners that the address book has been modified.
+     * Defers notifying listeners of modifications until {@link #resumeNotifications()} is called, so that a batch of
+     * modifications notifies them only once.
+     */
+    public void deferNotifications() {
+        isNotificationDeferred = true;
+    }
+
+    /**
+     * Notifies listeners once if the address book was modified since {@link #deferNotifications()} was called, and
+     * notifies them of every modification from now on.
+     */
+    public void resumeNotifications() {
+        isNotificationDeferred = false;
+        if (isModifiedWhileDeferred) {
+            isModifiedWhileDeferred = false;
+            indicateModified();
+        }
+    }
+
+    /**
+     * Notifies listeners that the address book has been modified, unless notifications are deferred.
      */
     protected void indicateModified() {
+        if (isNotificationDeferred) {
+            isModifiedWhileDeferred = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
@@ -130,6 +225,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the log of the modifications made to this address book.
+     */
+    @Override
+    public Optional<ChangeLog> getChangeLog() {
+        return Optional.of(changeLog);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,152 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The most recent modifications of an address book, each described by the person it removed and the person it added,
+ * and the position in the person list at which it did so.
+ *
+ * Modifications are counted, so that a storage that remembers the count as of its last save can ask for the changes
+ * made since, and save only those. Modifications that cannot be described person by person, such as replacing every
+ * person at once, are counted but not known, and neither is any modification older than the most recent
+ * {@code capacity} ones. A storage has to compare the persons itself when the changes it asks for are not known.
+ */
+public class ChangeLog {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final AtomicLong logCount = new AtomicLong();
+
+    private final long logId;
+    private final int capacity;
+    private final Deque<Change> changes;
+    private long modificationCount;
+
+    public ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty log that knows at most {@code capacity} changes.
+     */
+    public ChangeLog(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.logId = logCount.incrementAndGet();
+        this.capacity = capacity;
+        this.changes = new ArrayDeque<>();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}, which logs the modifications of the same address book.
+     */
+    public ChangeLog(ChangeLog toBeCopied) {
+        this.logId = toBeCopied.logId;
+        this.capacity = toBeCopied.capacity;
+        this.changes = new ArrayDeque<>(toBeCopied.changes);
+        this.modificationCount = toBeCopied.modificationCount;
+    }
+
+    /**
+     * Records a modification that replaced {@code removed} with {@code added}, appended {@code added} if
+     * {@code removed} is null, or removed {@code removed} if {@code added} is null, at position {@code index} of the
+     * person list.
+     */
+    void recordChange(int index, Person removed, Person added) {
+        modificationCount++;
+        if (changes.size() == capacity) {
+            changes.removeFirst();
+        }
+        changes.addLast(new Change(index, removed, added));
+    }
+
+    /**
+     * Records a modification that cannot be described person by person.
+     */
+    void recordUnknownChange() {
+        modificationCount++;
+        changes.clear();
+    }
+
+    /**
+     * Returns a number that is the same for all copies of this log, and different for the log of any other address
+     * book.
+     */
+    public long getLogId() {
+        return logId;
+    }
+
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the changes, oldest first, made since {@code modificationCount} modifications had been made, or
+     * {@code Optional.empty()} if any of them is not known.
+     */
+    public Optional<List<Change>> getChangesSince(long modificationCount) {
+        long count = this.modificationCount - modificationCount;
+        if (count < 0 || count > changes.size()) {
+            return Optional.empty();
+        }
+
+        List<Change> knownChanges = new ArrayList<>(changes);
+        return Optional.of(knownChanges.subList(knownChanges.size() - (int) count, knownChanges.size()));
+    }
+
+    /**
+     * A single modification of the persons of an address book. If both persons are present, the added person took
+     * the place of the removed one in the person list. If only the added person is present, it was appended to the
+     * list.
+     */
+    public static class Change {
+        private final int index;
+        private final Person removed;
+        private final Person added;
+
+        Change(int index, Person removed, Person added) {
+            this.index = index;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the position in the person list of the removed person before the modification, or of the added
+         * person after it.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public Optional<Person> getRemoved() {
+            return Optional.ofNullable(removed);
+        }
+
+        public Optional<Person> getAdded() {
+            return Optional.ofNullable(added);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Change // instanceof handles nulls
+                    && index == ((Change) other).index
+                    && Objects.equals(removed, ((Change) other).removed)
+                    && Objects.equals(added, ((Change) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removed, added);
+        }
+    }
+}
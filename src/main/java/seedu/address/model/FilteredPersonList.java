@@ -0,0 +1,284 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of the persons in a source list that match a predicate, in the order of the source list.
+ *
+ * Like {@code FilteredList}, it keeps the positions of the matching persons in the source list, and applies each
+ * change of the source list to them as it is made. Unlike {@code FilteredList}, setting an
+ * {@link IndexedPersonPredicate} does not test every person in the source list: the matching persons are taken from
+ * the candidates that the index behind the predicate names, and their positions are looked up in the source list.
+ * Any other predicate is tested against every person. While no predicate is set, the view shows every person and
+ * passes the changes of the source list on unchanged.
+ */
+class FilteredPersonList extends TransformationList<Person, Person> {
+
+    private final ToIntFunction<Person> sourceIndexOf;
+    private Predicate<? super Person> predicate;
+    /** Positions in the source list of the persons in this view, in ascending order, or null without a predicate. */
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Creates a view that shows every person in {@code source}.
+     *
+     * @param sourceIndexOf returns the position in {@code source} of a person, or -1 if it is not there.
+     */
+    FilteredPersonList(ObservableList<Person> source, ToIntFunction<Person> sourceIndexOf) {
+        super(source);
+        this.sourceIndexOf = requireNonNull(sourceIndexOf);
+    }
+
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons that {@code predicate} is true for, or every person if {@code predicate} is null.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        List<Person> removed = hasListeners() ? new ArrayList<>(this) : null;
+        this.predicate = predicate;
+        if (predicate == null) {
+            filtered = null;
+            size = 0;
+        } else if (predicate instanceof IndexedPersonPredicate) {
+            findCandidates((IndexedPersonPredicate) predicate);
+        } else {
+            findMatches(predicate);
+        }
+
+        if (removed != null) {
+            beginChange();
+            nextRemoveAndAdd(0, removed, size());
+            endChange();
+        }
+    }
+
+    /**
+     * Fills {@code filtered} with the positions of the candidates of {@code predicate} that it is true for.
+     */
+    private void findCandidates(IndexedPersonPredicate predicate) {
+        Collection<Person> candidates = predicate.getCandidates();
+        filtered = new int[candidates.size()];
+        size = 0;
+        for (Person candidate : candidates) {
+            int sourceIndex = sourceIndexOf.applyAsInt(candidate);
+            if (sourceIndex >= 0 && predicate.test(candidate)) {
+                filtered[size++] = sourceIndex;
+            }
+        }
+        Arrays.sort(filtered, 0, size);
+    }
+
+    /**
+     * Fills {@code filtered} with the positions of the persons in the source list that {@code predicate} is true for.
+     */
+    private void findMatches(Predicate<? super Person> predicate) {
+        ObservableList<? extends Person> source = getSource();
+        filtered = new int[source.size()];
+        size = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                filtered[size++] = i;
+            }
+        }
+    }
+
+    @Override
+    public Person get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return filtered == null ? getSource().size() : size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return filtered == null ? index : filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (filtered == null) {
+            return index;
+        }
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, index);
+        return viewIndex >= 0 ? viewIndex : -1;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (filtered == null) {
+                passOn(change);
+            } else if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports the current step of {@code change} as a change of this view, which shows every person.
+     */
+    private void passOn(ListChangeListener.Change<? extends Person> change) {
+        if (change.wasPermutated()) {
+            int[] permutation = new int[change.getTo() - change.getFrom()];
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                permutation[i - change.getFrom()] = change.getPermutation(i);
+            }
+            nextPermutation(change.getFrom(), change.getTo(), permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            nextRemoveAndAdd(change.getFrom(), change.getRemoved(), change.wasAdded() ? change.getAddedSize() : 0);
+        }
+    }
+
+    /**
+     * Applies the persons removed from and added to the source list in the current step of {@code change}.
+     */
+    private void addRemove(ListChangeListener.Change<? extends Person> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.wasAdded() ? change.getAddedSize() : 0;
+        int start = lowerBound(from);
+
+        int end = start;
+        while (end < size && filtered[end] < from + removedSize) {
+            end++;
+        }
+        List<Person> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(change.getRemoved().get(filtered[i] - from));
+        }
+        System.arraycopy(filtered, end, filtered, start, size - end);
+        size -= end - start;
+
+        int shift = addedSize - removedSize;
+        if (shift != 0) {
+            for (int i = start; i < size; i++) {
+                filtered[i] += shift;
+            }
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        List<? extends Person> addedPersons = change.getAddedSubList();
+        for (int i = 0; i < addedSize; i++) {
+            if (predicate.test(addedPersons.get(i))) {
+                added[addedCount++] = from + i;
+            }
+        }
+        if (addedCount > 0) {
+            ensureCapacity(size + addedCount);
+            System.arraycopy(filtered, start, filtered, start + addedCount, size - start);
+            System.arraycopy(added, 0, filtered, start, addedCount);
+            size += addedCount;
+        }
+        nextRemoveAndAdd(start, removed, addedCount);
+    }
+
+    /**
+     * Reports that {@code removed} were removed from this view at {@code from}, and {@code addedCount} persons were
+     * added there, as a single replacement if both happened.
+     */
+    private void nextRemoveAndAdd(int from, List<? extends Person> removed, int addedCount) {
+        if (!removed.isEmpty() && addedCount > 0) {
+            nextReplace(from, from + addedCount, removed);
+        } else if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        } else if (addedCount > 0) {
+            nextAdd(from, from + addedCount);
+        }
+    }
+
+    /**
+     * Tests the persons updated in the current step of {@code change} again.
+     */
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            Person person = getSource().get(i);
+            int viewIndex = Arrays.binarySearch(filtered, 0, size, i);
+            boolean isMatch = predicate.test(person);
+            if (viewIndex >= 0 && isMatch) {
+                nextUpdate(viewIndex);
+            } else if (viewIndex >= 0) {
+                System.arraycopy(filtered, viewIndex + 1, filtered, viewIndex, size - viewIndex - 1);
+                size--;
+                nextRemove(viewIndex, person);
+            } else if (isMatch) {
+                int insertionIndex = -viewIndex - 1;
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, insertionIndex, filtered, insertionIndex + 1, size - insertionIndex);
+                filtered[insertionIndex] = i;
+                size++;
+                nextAdd(insertionIndex, insertionIndex + 1);
+            }
+        }
+    }
+
+    /**
+     * Reorders this view as the source list was reordered in the current step of {@code change}.
+     */
+    private void permute(ListChangeListener.Change<? extends Person> change) {
+        int start = lowerBound(change.getFrom());
+        int end = lowerBound(change.getTo());
+        if (end == start) {
+            return;
+        }
+
+        int[] newSourceIndices = new int[end - start];
+        for (int i = start; i < end; i++) {
+            newSourceIndices[i - start] = change.getPermutation(filtered[i]);
+        }
+        int[] sortedSourceIndices = newSourceIndices.clone();
+        Arrays.sort(sortedSourceIndices);
+        int[] permutation = new int[end - start];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = start + Arrays.binarySearch(sortedSourceIndices, newSourceIndices[i]);
+        }
+        System.arraycopy(sortedSourceIndices, 0, filtered, start, sortedSourceIndices.length);
+        nextPermutation(start, end, permutation);
+    }
+
+    /**
+     * Returns the index in this view of the first person at or after {@code sourceIndex} in the source list.
+     */
+    private int lowerBound(int sourceIndex) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return viewIndex >= 0 ? viewIndex : -viewIndex - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -70,6 +71,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Appends {@code persons} to the initial data of the address book, which cannot be undone.
+     * Must be called before any other modification of the address book. None of the persons may already exist in the
+     * address book.
+     */
+    void addInitialPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -111,6 +119,20 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Starts a batch of changes to the address book. Until {@link #endBatch()} is called, commits of the address book
+     * are deferred, and listeners of the address book are not notified of its changes.
+     *
+     * @throws IllegalStateException if a batch has already been started.
+     */
+    void startBatch();
+
+    /**
+     * Ends the batch started by {@link #startBatch()}. The changes made during the batch are committed as a single
+     * state if any of them was committed, and listeners of the address book are notified once if it was changed.
+     */
+    void endBatch();
+
     /**
      * Selected person in the filtered person list.
      * null if no person is selected.
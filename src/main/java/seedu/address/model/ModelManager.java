@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -12,10 +13,11 @@ import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchQueryPredicate;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
@@ -26,8 +28,10 @@ public class ModelManager implements Model {
 
     private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
+    private boolean isInBatch;
+    private boolean isCommitDeferred;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,9 +42,11 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryMode(),
+                userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(versionedAddressBook.getPersonList(),
+                versionedAddressBook::indexOfPerson);
         filteredPersons.addListener(this::ensureSelectedPersonIsValid);
     }
 
@@ -112,6 +118,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addInitialPersons(List<Person> persons) {
+        requireNonNull(persons);
+        versionedAddressBook.addInitialPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -133,7 +145,31 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            // without a predicate, filteredPersons shows the address book as it is instead of testing every person
+            if (filteredPersons.getPredicate() != null) {
+                filteredPersons.setPredicate(null);
+            }
+            return;
+        }
+        filteredPersons.setPredicate(toIndexedPredicate(predicate));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the indexes of the address book, if
+     * {@code predicate} is of a kind that they can answer, or {@code predicate} itself otherwise.
+     * {@code filteredPersons} takes the persons matching an indexed predicate from the candidates it names, instead of
+     * testing every person.
+     */
+    private Predicate<Person> toIndexedPredicate(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            return versionedAddressBook.nameContainsAnyKeyword(keywords);
+        }
+        if (predicate instanceof TagsMatchQueryPredicate) {
+            return versionedAddressBook.tagsMatch(((TagsMatchQueryPredicate) predicate).getQuery());
+        }
+        return predicate;
     }
 
     //=========== Undo/Redo =================================================================================
@@ -160,9 +196,32 @@ public class ModelManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (isInBatch) {
+            isCommitDeferred = true;
+            return;
+        }
         versionedAddressBook.commit();
     }
 
+    @Override
+    public void startBatch() {
+        if (isInBatch) {
+            throw new IllegalStateException("A batch has already been started");
+        }
+        isInBatch = true;
+        versionedAddressBook.deferNotifications();
+    }
+
+    @Override
+    public void endBatch() {
+        isInBatch = false;
+        if (isCommitDeferred) {
+            isCommitDeferred = false;
+            versionedAddressBook.commit();
+        }
+        versionedAddressBook.resumeNotifications();
+    }
+
     //=========== Selected person ===========================================================================
 
     @Override
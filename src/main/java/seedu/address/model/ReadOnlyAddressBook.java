@@ -1,5 +1,10 @@
 package seedu.address.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
@@ -15,4 +20,19 @@ public interface ReadOnlyAddressBook extends Observable {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable copy of the persons list, which later modifications of this address book leave as it is.
+     */
+    default List<Person> getPersonListSnapshot() {
+        return Collections.unmodifiableList(new ArrayList<>(getPersonList()));
+    }
+
+    /**
+     * Returns the log of the recent modifications of this address book, or {@code Optional.empty()} if they are not
+     * tracked.
+     */
+    default Optional<ChangeLog> getChangeLog() {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,221 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.exceptions.ReadOnlyModelException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Represents a model of address book data that can be browsed and searched but not modified, such as an archive.
+ *
+ * Unlike {@link ModelManager}, it uses the given address book as it is instead of copying it into an
+ * {@link AddressBook}, so an address book that decodes its persons only as they are accessed is not decoded in full
+ * on opening. Without the indexes of an {@code AddressBook}, filtering tests every person. Every method that would
+ * modify the address book throws a {@link ReadOnlyModelException}, and there is no history to undo or redo.
+ */
+public class ReadOnlyModelManager implements Model {
+    private static final Logger logger = LogsCenter.getLogger(ReadOnlyModelManager.class);
+
+    private final ReadOnlyAddressBook addressBook;
+    private final UserPrefs userPrefs;
+    private final FilteredPersonList filteredPersons;
+    private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
+    private boolean isInBatch;
+
+    /**
+     * Initializes a ReadOnlyModelManager with the given addressBook, which is not copied, and userPrefs.
+     */
+    public ReadOnlyModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, userPrefs);
+
+        logger.fine("Initializing read-only with address book: " + addressBook + " and user prefs " + userPrefs);
+
+        this.addressBook = addressBook;
+        this.userPrefs = new UserPrefs(userPrefs);
+        filteredPersons = new FilteredPersonList(addressBook.getPersonList(), addressBook.getPersonList()::indexOf);
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new ReadOnlyModelException();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getPersonList().stream().anyMatch(person::isSamePerson);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new ReadOnlyModelException();
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new ReadOnlyModelException();
+    }
+
+    @Override
+    public void addInitialPersons(List<Person> persons) {
+        throw new ReadOnlyModelException();
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new ReadOnlyModelException();
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(predicate == PREDICATE_SHOW_ALL_PERSONS ? null : predicate);
+        // the selected person is in the address book, so it is still shown if it matches, and need not be looked for
+        if (selectedPerson.getValue() != null && !predicate.test(selectedPerson.getValue())) {
+            selectedPerson.setValue(null);
+        }
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new ReadOnlyModelException();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new ReadOnlyModelException();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        // the address book cannot have been modified, so there is nothing to commit
+    }
+
+    @Override
+    public void startBatch() {
+        if (isInBatch) {
+            throw new IllegalStateException("A batch has already been started");
+        }
+        isInBatch = true;
+    }
+
+    @Override
+    public void endBatch() {
+        isInBatch = false;
+    }
+
+    //=========== Selected person ===========================================================================
+
+    @Override
+    public ReadOnlyProperty<Person> selectedPersonProperty() {
+        return selectedPerson;
+    }
+
+    @Override
+    public Person getSelectedPerson() {
+        return selectedPerson.getValue();
+    }
+
+    @Override
+    public void setSelectedPerson(Person person) {
+        if (person != null && !filteredPersons.contains(person)) {
+            throw new PersonNotFoundException();
+        }
+        selectedPerson.setValue(person);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // short circuit if same object
+        if (obj == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(obj instanceof ReadOnlyModelManager)) {
+            return false;
+        }
+
+        // state check
+        ReadOnlyModelManager other = (ReadOnlyModelManager) obj;
+        return addressBook.equals(other.addressBook)
+                && userPrefs.equals(other.userPrefs)
+                && filteredPersons.equals(other.filteredPersons)
+                && Objects.equals(selectedPerson.get(), other.selectedPerson.get());
+    }
+
+}
@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    UndoHistoryMode getUndoHistoryMode();
+
+    int getUndoHistoryLimit();
+
 }
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * How {@code VersionedAddressBook} records the history used by undo and redo.
+ */
+public enum UndoHistoryMode {
+    /** Each committed state is kept as a snapshot of the person list that shares unchanged parts. */
+    SNAPSHOT,
+    /** Each commit keeps only the person-level changes made since the previous commit, and replays them. */
+    DELTA
+}
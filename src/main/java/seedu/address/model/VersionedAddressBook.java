@@ -1,37 +1,279 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentList;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Every modification is recorded as a {@code PersonChange}. How committed changes are kept depends on the
+ * {@code UndoHistoryMode}: in {@code SNAPSHOT} mode they are folded into a {@code PersistentList} of persons, so each
+ * committed state shares everything that did not change with its neighbours; in {@code DELTA} mode they are kept as
+ * they are and replayed or reverted by {@code redo()} and {@code undo()}. In {@code SNAPSHOT} mode, restoring a state
+ * only changes the persons that differ from those of the current state, which are found by skipping the subtrees
+ * that the two states share.
+ * At most {@code historyLimit} commits can be undone; older history is discarded.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    /** Restoring a state that differs in more persons than this replaces every person instead. */
+    private static final int MIN_CHANGES_BEFORE_RESET = 64;
+
+    private final UndoHistoryMode mode;
+    private final int historyLimit;
+
+    /** The change from each committed state to the next, oldest first. */
+    private final List<StateChange> stateChangeList = new ArrayList<>();
     private int currentStatePointer;
 
+    /** Changes made since the last commit, undo or redo. Used in {@code DELTA} mode only. */
+    private final List<PersonChange> uncommittedChanges = new ArrayList<>();
+    /** The persons at {@code currentStatePointer} and as of now. Used in {@code SNAPSHOT} mode only. */
+    private PersistentList<Person> committedState;
+    private PersistentList<Person> currentState;
+
+    /** True while history is being replayed, during which modifications are not recorded. */
+    private boolean isReplaying;
+
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        this(initialState, UndoHistoryMode.SNAPSHOT, Integer.MAX_VALUE);
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, UndoHistoryMode mode, int historyLimit) {
+        requireNonNull(mode);
+        checkArgument(historyLimit >= 0, UserPrefs.MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+        this.mode = mode;
+        this.historyLimit = historyLimit;
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        replay(() -> resetData(initialState));
+        currentState = PersistentList.of(getPersonList());
+        committedState = currentState;
         currentStatePointer = 0;
     }
 
+    //// recorded modifications
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> previousPersons = copyPersonsBeforeReset();
+        super.setPersons(persons);
+        recordReset(previousPersons);
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        List<Person> previousPersons = copyPersonsBeforeReset();
+        super.resetData(newData);
+        recordReset(previousPersons);
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        int index = getPersonList().size();
+        super.addPerson(p);
+        record(new PersonAdded(index, p));
+    }
+
+    @Override
+    public void addPerson(int index, Person p) {
+        super.addPerson(index, p);
+        record(new PersonAdded(index, p));
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        int index = getPersonList().size();
+        super.addPersons(persons);
+        for (Person p : persons) {
+            record(new PersonAdded(index++, p));
+        }
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        int index = indexOfPerson(target);
+        super.setPerson(target, editedPerson);
+        record(new PersonReplaced(index, target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        super.removePerson(key);
+        record(new PersonRemoved(index, key));
+    }
+
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Appends {@code persons} to the initial state of this address book, as if they had been in it when it was
+     * created, so that adding them cannot be undone.
+     *
+     * @throws IllegalStateException if this address book has been modified since it was created.
+     */
+    public void addInitialPersons(List<Person> persons) {
+        if (!stateChangeList.isEmpty() || !uncommittedChanges.isEmpty() || currentState != committedState) {
+            throw new IllegalStateException("Initial persons can only be added before any other modification");
+        }
+
+        replay(() -> addPersons(persons));
+        if (mode == UndoHistoryMode.SNAPSHOT) {
+            for (Person p : persons) {
+                currentState = currentState.add(p);
+            }
+            committedState = currentState;
+        }
+    }
+
+    /**
+     * Makes the modifications of {@code modification} to this address book without recording them.
+     */
+    private void replay(Runnable modification) {
+        isReplaying = true;
+        try {
+            modification.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Returns a copy of the persons in this address book, which is about to be reset, if undoing the reset will need
+     * them, or null otherwise. Only {@code DELTA} mode needs them, as {@code SNAPSHOT} mode keeps them in
+     * {@code committedState} already.
+     */
+    private List<Person> copyPersonsBeforeReset() {
+        return mode == UndoHistoryMode.DELTA && !isReplaying ? new ArrayList<>(getPersonList()) : null;
+    }
+
+    /**
+     * Records that the person list has just been replaced, where {@code previousPersons} is as returned by
+     * {@link #copyPersonsBeforeReset()} before it was.
+     */
+    private void recordReset(List<Person> previousPersons) {
+        if (isReplaying) {
+            return;
+        }
+
+        // in SNAPSHOT mode the reset is folded into currentState at once, so the person list need not be copied
+        List<Person> persons = mode == UndoHistoryMode.DELTA ? new ArrayList<>(getPersonList()) : getPersonList();
+        record(new PersonsReset(previousPersons, persons));
+    }
+
+    /**
+     * Records {@code change}, which has just been made to this address book, as an uncommitted change.
+     */
+    private void record(PersonChange change) {
+        if (isReplaying) {
+            return;
+        }
+
+        if (mode == UndoHistoryMode.SNAPSHOT) {
+            currentState = change.applyToState(currentState);
+        } else {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    /**
+     * Returns the persons of {@code currentState} in {@code SNAPSHOT} mode, which takes constant time as it shares
+     * them instead of copying them. In {@code DELTA} mode, copies the persons list.
+     */
+    @Override
+    public List<Person> getPersonListSnapshot() {
+        return mode == UndoHistoryMode.SNAPSHOT ? currentState.asList() : super.getPersonListSnapshot();
+    }
+
+    //// versioning
+
+    /**
+     * Saves the current {@code AddressBook} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are removed if there are more than
+     * {@code historyLimit} states to undo.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        stateChangeList.add(takeUncommittedChanges());
         currentStatePointer++;
+        removeStatesBeyondHistoryLimit();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        stateChangeList.subList(currentStatePointer, stateChangeList.size()).clear();
+    }
+
+    private void removeStatesBeyondHistoryLimit() {
+        int excessStates = currentStatePointer - historyLimit;
+        if (excessStates > 0) {
+            stateChangeList.subList(0, excessStates).clear();
+            currentStatePointer -= excessStates;
+        }
+    }
+
+    /**
+     * Returns the uncommitted changes as a single {@code StateChange}, and marks them as committed.
+     */
+    private StateChange takeUncommittedChanges() {
+        if (mode == UndoHistoryMode.SNAPSHOT) {
+            StateChange change = new SnapshotChange(committedState, currentState);
+            committedState = currentState;
+            return change;
+        }
+
+        StateChange change = new DeltaChange(new ArrayList<>(uncommittedChanges));
+        uncommittedChanges.clear();
+        return change;
+    }
+
+    /**
+     * Restores the address book to the state at {@code currentStatePointer}, discarding uncommitted changes.
+     */
+    private void discardUncommittedChanges() {
+        if (mode == UndoHistoryMode.SNAPSHOT) {
+            if (currentState != committedState) {
+                restoreState(committedState);
+            }
+            return;
+        }
+
+        for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+            uncommittedChanges.get(i).revert(this);
+        }
+        uncommittedChanges.clear();
+    }
+
+    /**
+     * Replaces the persons in this address book with those of {@code state}, which becomes the committed state.
+     * Only the range of persons between those that {@code state} shares with {@code currentState} at the start and at
+     * the end is changed, unless that range is large.
+     */
+    private void restoreState(PersistentList<Person> state) {
+        int prefixLength = currentState.commonPrefixLength(state);
+        int suffixLength = currentState.commonSuffixLength(state,
+                Math.min(currentState.size(), state.size()) - prefixLength);
+        int removedCount = currentState.size() - prefixLength - suffixLength;
+        int addedCount = state.size() - prefixLength - suffixLength;
+
+        if (removedCount + addedCount > Math.max(MIN_CHANGES_BEFORE_RESET, state.size() / 2)) {
+            super.setPersons(state.toList());
+        } else if (removedCount == 1 && addedCount == 1) {
+            super.setPerson(currentState.get(prefixLength), state.get(prefixLength));
+        } else {
+            // all are removed before any is added, as a person may have moved within the range
+            for (int i = prefixLength + removedCount - 1; i >= prefixLength; i--) {
+                super.removePerson(currentState.get(i));
+            }
+            for (int i = prefixLength; i < prefixLength + addedCount; i++) {
+                super.addPerson(i, state.get(i));
+            }
+        }
+        currentState = state;
+        committedState = state;
     }
 
     /**
@@ -41,8 +283,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardUncommittedChanges();
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        stateChangeList.get(currentStatePointer).undo(this);
     }
 
     /**
@@ -52,8 +295,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardUncommittedChanges();
+        stateChangeList.get(currentStatePointer).redo(this);
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -67,7 +311,7 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < stateChangeList.size();
     }
 
     @Override
@@ -86,7 +330,7 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+                && stateChangeList.equals(otherVersionedAddressBook.stateChangeList)
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
@@ -107,4 +351,244 @@ public class VersionedAddressBook extends AddressBook {
             super("Current state pointer at end of addressBookState list, unable to redo.");
         }
     }
+
+    //// history entries
+
+    /**
+     * The difference between two consecutive committed states.
+     */
+    private interface StateChange {
+        /** Changes {@code addressBook} from the later state to the earlier one. */
+        void undo(VersionedAddressBook addressBook);
+
+        /** Changes {@code addressBook} from the earlier state to the later one. */
+        void redo(VersionedAddressBook addressBook);
+    }
+
+    /**
+     * A {@code StateChange} that keeps both states, each sharing its unchanged parts with other states.
+     */
+    private static class SnapshotChange implements StateChange {
+        private final PersistentList<Person> before;
+        private final PersistentList<Person> after;
+
+        SnapshotChange(PersistentList<Person> before, PersistentList<Person> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.restoreState(before);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.restoreState(after);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SnapshotChange // instanceof handles nulls
+                    && before.equals(((SnapshotChange) other).before)
+                    && after.equals(((SnapshotChange) other).after));
+        }
+    }
+
+    /**
+     * A {@code StateChange} that keeps only the person-level changes made between the two states.
+     */
+    private static class DeltaChange implements StateChange {
+        private final List<PersonChange> changes;
+
+        DeltaChange(List<PersonChange> changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).revert(addressBook);
+            }
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            for (PersonChange change : changes) {
+                change.apply(addressBook);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof DeltaChange // instanceof handles nulls
+                    && changes.equals(((DeltaChange) other).changes));
+        }
+    }
+
+    /**
+     * A single modification of the person list, which knows how to make and unmake itself.
+     */
+    private abstract static class PersonChange {
+        protected final int index;
+        protected final Person before;
+        protected final Person after;
+
+        PersonChange(int index, Person before, Person after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        /**
+         * Makes this change to {@code addressBook}, without recording it.
+         */
+        void apply(VersionedAddressBook addressBook) {
+            addressBook.replay(() -> applyTo(addressBook));
+        }
+
+        /**
+         * Unmakes this change to {@code addressBook}, without recording it.
+         */
+        void revert(VersionedAddressBook addressBook) {
+            addressBook.replay(() -> revertFrom(addressBook));
+        }
+
+        abstract void applyTo(AddressBook addressBook);
+
+        abstract void revertFrom(AddressBook addressBook);
+
+        /** Returns {@code persons} with this change made to it. */
+        abstract PersistentList<Person> applyToState(PersistentList<Person> persons);
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (other == null || other.getClass() != getClass()) {
+                return false;
+            }
+
+            PersonChange otherChange = (PersonChange) other;
+            return index == otherChange.index
+                    && Objects.equals(before, otherChange.before)
+                    && Objects.equals(after, otherChange.after);
+        }
+    }
+
+    /**
+     * {@code after} was inserted at {@code index}.
+     */
+    private static class PersonAdded extends PersonChange {
+        PersonAdded(int index, Person added) {
+            super(index, null, added);
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.addPerson(index, after);
+        }
+
+        @Override
+        void revertFrom(AddressBook addressBook) {
+            addressBook.removePerson(after);
+        }
+
+        @Override
+        PersistentList<Person> applyToState(PersistentList<Person> persons) {
+            return persons.add(index, after);
+        }
+    }
+
+    /**
+     * {@code before}, at {@code index}, was replaced by {@code after}.
+     */
+    private static class PersonReplaced extends PersonChange {
+        PersonReplaced(int index, Person before, Person after) {
+            super(index, before, after);
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.setPerson(before, after);
+        }
+
+        @Override
+        void revertFrom(AddressBook addressBook) {
+            addressBook.setPerson(after, before);
+        }
+
+        @Override
+        PersistentList<Person> applyToState(PersistentList<Person> persons) {
+            return persons.set(index, after);
+        }
+    }
+
+    /**
+     * {@code before} was removed from {@code index}.
+     */
+    private static class PersonRemoved extends PersonChange {
+        PersonRemoved(int index, Person removed) {
+            super(index, removed, null);
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.removePerson(before);
+        }
+
+        @Override
+        void revertFrom(AddressBook addressBook) {
+            addressBook.addPerson(index, before);
+        }
+
+        @Override
+        PersistentList<Person> applyToState(PersistentList<Person> persons) {
+            return persons.remove(index);
+        }
+    }
+
+    /**
+     * The whole person list was replaced. This is the tombstone recorded by clearing the address book.
+     * In {@code DELTA} mode it keeps both person lists, which undoing and redoing it need, so it costs as much as a
+     * snapshot of the persons it replaced; after a clear, the list it was replaced by is empty. In {@code SNAPSHOT}
+     * mode it is only folded into the current state, and {@code personsBefore} is null.
+     */
+    private static class PersonsReset extends PersonChange {
+        private final List<Person> personsBefore;
+        private final List<Person> personsAfter;
+
+        PersonsReset(List<Person> personsBefore, List<Person> personsAfter) {
+            super(0, null, null);
+            this.personsBefore = personsBefore;
+            this.personsAfter = personsAfter;
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.setPersons(personsAfter);
+        }
+
+        @Override
+        void revertFrom(AddressBook addressBook) {
+            addressBook.setPersons(personsBefore);
+        }
+
+        @Override
+        PersistentList<Person> applyToState(PersistentList<Person> persons) {
+            return PersistentList.of(personsAfter);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonsReset // instanceof handles nulls
+                    && Objects.equals(personsBefore, ((PersonsReset) other).personsBefore)
+                    && personsAfter.equals(((PersonsReset) other).personsAfter));
+        }
+    }
 }
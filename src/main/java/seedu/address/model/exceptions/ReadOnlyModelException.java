@@ -0,0 +1,10 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that the operation would modify an address book that was opened read-only.
+ */
+public class ReadOnlyModelException extends RuntimeException {
+    public ReadOnlyModelException() {
+        super("Operation would modify a read-only address book");
+    }
+}
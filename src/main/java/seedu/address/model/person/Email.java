@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -35,16 +36,51 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isValidated) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(isValidated || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email}, which must already be known to be valid, without validating it again.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling the regex on every call.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int atIndex = test.indexOf('@');
+        if (atIndex < 1 || test.length() - atIndex - 1 < 2) {
+            return false;
+        }
+
+        for (int i = 0; i < atIndex; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != '_' && SPECIAL_CHARACTERS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+
+        int domainStart = atIndex + 1;
+        int domainEnd = test.length() - 1;
+        if (!isAsciiAlphanumeric(test.charAt(domainStart)) || !isAsciiAlphanumeric(test.charAt(domainEnd))) {
+            return false;
+        }
+        for (int i = domainStart + 1; i < domainEnd; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
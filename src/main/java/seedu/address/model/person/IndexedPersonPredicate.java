@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that is answered from an index of the persons in a list, and so can name the persons in that list that
+ * it may be true for without testing every one of them.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in the indexed list that this predicate may be true for, in no particular order.
+     * This predicate is false for every other person in the list.
+     */
+    Collection<Person> getCandidates();
+}
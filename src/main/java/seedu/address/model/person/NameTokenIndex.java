@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from each word of a person's name to the persons whose names contain that word.
+ * Words are compared ignoring case, as by {@link String#equalsIgnoreCase(String)}.
+ *
+ * Persons are indexed by identity, so the index must be given the exact {@code Person} instances being indexed.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Indexes the words in the name of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            postings.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>(2)))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<Person> posting = postings.get(token);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this index has a name containing any of {@code keywords}.
+     * The predicate reads the index when tested, so it stays correct as the index is updated, and its candidates are
+     * the persons indexed under any of the keywords.
+     */
+    IndexedPersonPredicate nameContainsAnyKeyword(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> foldedKeywords = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            foldedKeywords.add(foldCase(keyword.trim()));
+        }
+        return new KeywordPredicate(foldedKeywords);
+    }
+
+    /**
+     * Returns the distinct case-folded words of {@code name}, which are separated by whitespace.
+     */
+    private static List<String> tokenize(String name) {
+        List<String> tokens = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++) {
+            boolean isWordEnd = i == name.length() || Character.isWhitespace(name.charAt(i));
+            if (isWordEnd && start >= 0) {
+                String token = foldCase(name.substring(start, i));
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            } else if (!isWordEnd && start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns {@code word} in a canonical case, such that two words are equal ignoring case
+     * if and only if their canonical forms are equal.
+     */
+    private static String foldCase(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < word.length(); i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Tests persons against the postings of case-folded keywords.
+     */
+    private class KeywordPredicate implements IndexedPersonPredicate {
+        private final List<String> foldedKeywords;
+
+        KeywordPredicate(List<String> foldedKeywords) {
+            this.foldedKeywords = foldedKeywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (String keyword : foldedKeywords) {
+                Set<Person> posting = postings.get(keyword);
+                if (posting != null && posting.contains(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Collection<Person> getCandidates() {
+            Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String keyword : foldedKeywords) {
+                candidates.addAll(postings.getOrDefault(keyword, Collections.emptySet()));
+            }
+            return candidates;
+        }
+    }
+}
@@ -2,12 +2,16 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Represents a Person in the address book.
@@ -22,7 +26,9 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+
+    /** This person's tags, as interned by {@link TagRegistry}, in order of their ids. */
+    private final Tag[] tags;
 
     /**
      * Every field must be present and not null.
@@ -33,7 +39,7 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = toSortedInternedTags(tags);
     }
 
     public Name getName() {
@@ -57,7 +63,15 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return Collections.unmodifiableSet(new TagArraySet(tags));
+    }
+
+    /**
+     * Returns this person's tags, as interned by {@link TagRegistry}, in order of their ids.
+     * The returned array is shared and must not be modified.
+     */
+    Tag[] getInternedTags() {
+        return tags;
     }
 
     /**
@@ -93,13 +107,13 @@ public class Person {
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getEmail().equals(getEmail())
                 && otherPerson.getAddress().equals(getAddress())
-                && otherPerson.getTags().equals(getTags());
+                && Arrays.equals(otherPerson.tags, tags);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return Objects.hash(name, phone, email, address, Arrays.hashCode(tags));
     }
 
     @Override
@@ -117,4 +131,39 @@ public class Person {
         return builder.toString();
     }
 
+    /**
+     * Returns the interned tags equal to {@code tags}, in order of their ids.
+     * Equal persons therefore have equal arrays, as a tag used by a person stays interned with the same id.
+     */
+    private static Tag[] toSortedInternedTags(Set<Tag> tags) {
+        Tag[] internedTags = new Tag[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            internedTags[i++] = TagRegistry.intern(tag);
+        }
+        Arrays.sort(internedTags, Comparator.comparingInt(Tag::getId));
+        return internedTags;
+    }
+
+    /**
+     * A set of distinct tags held in an array, which does not copy the array.
+     */
+    private static class TagArraySet extends AbstractSet<Tag> {
+        private final Tag[] tags;
+
+        TagArraySet(Tag[] tags) {
+            this.tags = tags;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Arrays.asList(tags).iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+    }
+
 }
@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index from each person in a list to its position in that list.
+ *
+ * Inserting or removing a person shifts the positions of every later person. Instead of updating all of them, the
+ * index records the shift and applies the pending shifts to a position when it is looked up. Once sqrt(n) shifts are
+ * pending, the index is rebuilt from the list in O(n), where n is the size of the list. A lookup therefore takes
+ * O(sqrt(n)), and recording a shift amortized O(sqrt(n)). Setting or appending a person takes O(1).
+ *
+ * A person equal to one already indexed is left out of the index (it is shadowed). While any person is shadowed, a
+ * lookup of a person missing from the index falls back to a linear scan of the list.
+ */
+class PersonPositionIndex {
+
+    /** Lower bound on the number of shifts that may be pending before the index is rebuilt. */
+    private static final int MIN_PENDING_SHIFTS = 16;
+
+    private final List<Person> persons;
+    private final Map<Person, Position> positions = new HashMap<>();
+
+    /**
+     * Shifts made since the index was last rebuilt, in order. An insertion at {@code i} is recorded as {@code i} and
+     * a removal at {@code i} as {@code ~i}.
+     */
+    private int[] pendingShifts = new int[MIN_PENDING_SHIFTS];
+    private int pendingShiftCount;
+
+    /**
+     * Number of persons left out of {@code positions} because an equal person was already in it.
+     * While this is non-zero, a person missing from {@code positions} may still be in {@code persons}.
+     */
+    private int shadowedCount;
+
+    /**
+     * Creates an index of {@code persons}, which must be kept in sync with the list through the other methods.
+     */
+    PersonPositionIndex(List<Person> persons) {
+        this.persons = requireNonNull(persons);
+        rebuild();
+    }
+
+    /**
+     * Returns the position in the list of a person equal to {@code person}, or -1 if there is none.
+     */
+    int indexOf(Person person) {
+        Position position = positions.get(person);
+        if (position == null) {
+            return shadowedCount == 0 ? -1 : persons.indexOf(person);
+        }
+        return currentIndex(position);
+    }
+
+    /**
+     * Records that {@code person} has been set at {@code index} of the list, without shifting other persons.
+     * The person previously at {@code index} must have been {@link #remove removed} from the index first.
+     */
+    void put(int index, Person person) {
+        if (positions.putIfAbsent(person, new Position(index, pendingShiftCount)) != null) {
+            shadowedCount++;
+        }
+    }
+
+    /**
+     * Records that {@code person} has been inserted at {@code index} of the list.
+     */
+    void insert(int index, Person person) {
+        boolean isAppended = index == persons.size() - 1;
+        if (isAppended || recordShift(index)) {
+            put(index, person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which is at {@code index} of the list, from the index.
+     * {@code person} must still be in the list.
+     */
+    void remove(int index, Person person) {
+        Position position = positions.get(person);
+        if (position != null && currentIndex(position) == index) {
+            positions.remove(person);
+        } else {
+            shadowedCount--;
+        }
+    }
+
+    /**
+     * Records that the person at {@code index} has been removed from the list.
+     * That person must have been {@link #remove removed} from the index first.
+     */
+    void shiftAfterRemoval(int index) {
+        if (index < persons.size()) {
+            recordShift(~index);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the current contents of the list.
+     */
+    void rebuild() {
+        positions.clear();
+        pendingShiftCount = 0;
+        shadowedCount = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            put(i, persons.get(i));
+        }
+    }
+
+    /**
+     * Returns the position that {@code position} has been shifted to by the shifts pending since it was recorded.
+     */
+    private int currentIndex(Position position) {
+        int index = position.index;
+        for (int i = position.shiftsBefore; i < pendingShiftCount; i++) {
+            int shift = pendingShifts[i];
+            if (shift >= 0 && index >= shift) {
+                index++;
+            } else if (shift < 0 && index > ~shift) {
+                index--;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Records {@code shift}, or rebuilds the index from the list instead if too many shifts are pending.
+     * The pending shifts are bounded by the square root of the list size, which balances the cost of applying them
+     * on each lookup against the cost of rebuilding the index.
+     *
+     * @return true if the shift was recorded, false if the index was rebuilt.
+     */
+    private boolean recordShift(int shift) {
+        int maxPendingShifts = Math.max(MIN_PENDING_SHIFTS, (int) Math.sqrt(persons.size()));
+        if (pendingShiftCount >= maxPendingShifts) {
+            rebuild();
+            return false;
+        }
+        if (pendingShiftCount == pendingShifts.length) {
+            pendingShifts = Arrays.copyOf(pendingShifts, pendingShifts.length * 2);
+        }
+        pendingShifts[pendingShiftCount++] = shift;
+        return true;
+    }
+
+    /**
+     * The position of a person in the list, as of when {@code shiftsBefore} shifts were pending.
+     */
+    private static class Position {
+        private final int index;
+        private final int shiftsBefore;
+
+        Position(int index, int shiftsBefore) {
+            this.index = index;
+            this.shiftsBefore = shiftsBefore;
+        }
+    }
+}
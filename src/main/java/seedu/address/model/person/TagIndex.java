@@ -0,0 +1,165 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * A bitmap index of the tags of a set of persons.
+ * Each indexed person is given a slot, and each tag a bitmap of the slots of the persons who have it, so a
+ * {@code TagQuery} is answered by combining bitmaps instead of by looking at the tags of every person.
+ *
+ * Persons are indexed by identity, so the index must be given the exact {@code Person} instances being indexed.
+ */
+class TagIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    /** The person in each slot, or null if the slot is free. */
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+    /**
+     * Bitmaps of the slots of the persons with each tag, indexed by the id of the tag in {@link TagRegistry}.
+     * An indexed person keeps its tags interned, so the id of a tag with any slot set here is never reassigned.
+     */
+    private final List<BitSet> membersByTagId = new ArrayList<>();
+
+    /** No slot below this is free. */
+    private int lowestFreeSlot;
+    /** Incremented on every change, so that query results computed from an older version can be recomputed. */
+    private int version;
+
+    /**
+     * Indexes the tags of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        int slot = occupiedSlots.nextClearBit(lowestFreeSlot);
+        occupiedSlots.set(slot);
+        lowestFreeSlot = slot + 1;
+        slots.put(person, slot);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        for (Tag tag : person.getInternedTags()) {
+            while (membersByTagId.size() <= tag.getId()) {
+                membersByTagId.add(new BitSet());
+            }
+            membersByTagId.get(tag.getId()).set(slot);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        occupiedSlots.clear(slot);
+        personsBySlot.set(slot, null);
+        lowestFreeSlot = Math.min(lowestFreeSlot, slot);
+        for (Tag tag : person.getInternedTags()) {
+            membersByTagId.get(tag.getId()).clear(slot);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        slots.clear();
+        personsBySlot.clear();
+        occupiedSlots.clear();
+        membersByTagId.clear();
+        lowestFreeSlot = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this index has tags matching {@code query}.
+     * The predicate evaluates the query against this index when tested, so it stays correct as the index is updated,
+     * and its candidates are exactly the persons that it is true for.
+     */
+    IndexedPersonPredicate tagsMatch(TagQuery query) {
+        requireNonNull(query);
+        return new QueryPredicate(query);
+    }
+
+    /**
+     * Returns the slots of the indexed persons whose tags match {@code query}.
+     */
+    private BitSet evaluate(TagQuery query) {
+        BitSet result = new BitSet();
+        for (TagQuery.Clause clause : query.getClauses()) {
+            BitSet clauseResult = (BitSet) occupiedSlots.clone();
+            for (Tag tag : clause.getIncludedTags()) {
+                clauseResult.and(membersOf(tag));
+            }
+            for (Tag tag : clause.getExcludedTags()) {
+                clauseResult.andNot(membersOf(tag));
+            }
+            result.or(clauseResult);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bitmap of the slots of the persons with {@code tag}. Must not be modified.
+     */
+    private BitSet membersOf(Tag tag) {
+        int tagId = TagRegistry.findId(tag);
+        return tagId >= 0 && tagId < membersByTagId.size() ? membersByTagId.get(tagId) : new BitSet();
+    }
+
+    /**
+     * Tests persons against the result of a query, which is evaluated again whenever the index has changed.
+     */
+    private class QueryPredicate implements IndexedPersonPredicate {
+        private final TagQuery query;
+        private BitSet matchingSlots;
+        private int matchingSlotsVersion;
+
+        QueryPredicate(TagQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Integer slot = slots.get(person);
+            return slot != null && getMatchingSlots().get(slot);
+        }
+
+        @Override
+        public Collection<Person> getCandidates() {
+            BitSet matchingSlots = getMatchingSlots();
+            List<Person> candidates = new ArrayList<>(matchingSlots.cardinality());
+            for (int slot = matchingSlots.nextSetBit(0); slot >= 0; slot = matchingSlots.nextSetBit(slot + 1)) {
+                candidates.add(personsBySlot.get(slot));
+            }
+            return candidates;
+        }
+
+        private BitSet getMatchingSlots() {
+            if (matchingSlots == null || matchingSlotsVersion != version) {
+                matchingSlots = evaluate(query);
+                matchingSlotsVersion = version;
+            }
+            return matchingSlots;
+        }
+    }
+}
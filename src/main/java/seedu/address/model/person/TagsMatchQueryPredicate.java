@@ -0,0 +1,35 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Tests that a {@code Person}'s {@code Tag}s match the given {@code TagQuery}.
+ */
+public class TagsMatchQueryPredicate implements Predicate<Person> {
+    private final TagQuery query;
+
+    public TagsMatchQueryPredicate(TagQuery query) {
+        this.query = requireNonNull(query);
+    }
+
+    public TagQuery getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return query.matches(person.getTags());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagsMatchQueryPredicate // instanceof handles nulls
+                && query.equals(((TagsMatchQueryPredicate) other).query)); // state check
+    }
+
+}
@@ -3,13 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +22,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered by a hashed index of each person's (name, phone) and (name, email) pairs, name
+ * keyword lookups by an inverted index of name words, tag queries by per-tag bitmaps, and the position of a person by
+ * an index of positions. All are kept in sync with the backing list by every mutating operation.
+ *
+ * Locating a person, as {@code setPerson} and {@code remove} do, takes O(sqrt(n)) through the position index rather
+ * than a scan calling {@code Person#equals}; see {@link PersonPositionIndex}. The backing list stays contiguous, as the
+ * UI and {@code FilteredList} index into it, so {@code remove} and inserting other than at the end still shift the
+ * later persons with a single O(n) array copy.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +41,22 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Number of persons in {@code internalList} that own each identity key.
+     * A count is kept rather than a flag as {@code setPerson} may legitimately leave two persons sharing a key.
+     */
+    private final Map<IdentityKey, Integer> identityIndex = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final PersonPositionIndex positionIndex = new PersonPositionIndex(internalList);
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(IdentityKey.ofNameAndPhone(toCheck))
+                || identityIndex.containsKey(IdentityKey.ofNameAndEmail(toCheck));
     }
 
     /**
@@ -45,18 +68,58 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
+        positionIndex.insert(internalList.size() - 1, toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at position {@code index}.
+     * The person must not already exist in the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size].
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        Objects.checkIndex(index, internalList.size() + 1);
+        index(toAdd);
+        internalList.add(index, toAdd);
+        positionIndex.insert(index, toAdd);
+    }
+
+    /**
+     * Appends {@code toAdd} to the list, notifying listeners once.
+     * None of {@code toAdd} may already exist in the list, nor be the same person as another of them.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<IdentityKey, Integer> addedIndex = buildUniqueIdentityIndex(toAdd);
+        if (addedIndex.keySet().stream().anyMatch(identityIndex::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        int start = internalList.size();
+        toAdd.forEach(this::index);
+        internalList.addAll(toAdd);
+        for (int i = 0; i < toAdd.size(); i++) {
+            positionIndex.put(start + i, toAdd.get(i));
+        }
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the position of {@code editedPerson} in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionIndex.indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,23 +128,52 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        unindex(index);
+        index(editedPerson);
         internalList.set(index, editedPerson);
+        positionIndex.put(index, editedPerson);
+        return index;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the position that the person had in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionIndex.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        unindex(index);
+        internalList.remove(index);
+        positionIndex.shiftAfterRemoval(index);
+        return index;
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is no such person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positionIndex.indexOf(person);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
+
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        nameTokenIndex.setAll(replacement.internalList);
+        tagIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        positionIndex.rebuild();
     }
 
     /**
@@ -90,11 +182,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<IdentityKey, Integer> replacementIndex = buildUniqueIdentityIndex(persons);
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        nameTokenIndex.setAll(persons);
+        tagIndex.setAll(persons);
         internalList.setAll(persons);
+        positionIndex.rebuild();
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this list has a name containing any of {@code keywords},
+     * ignoring case. The predicate is answered from an index of name words instead of by scanning names.
+     */
+    public IndexedPersonPredicate nameContainsAnyKeyword(List<String> keywords) {
+        return nameTokenIndex.nameContainsAnyKeyword(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this list has tags matching {@code query}.
+     * The predicate is answered by combining per-tag bitmaps instead of by looking at the tags of each person.
+     */
+    public IndexedPersonPredicate tagsMatch(TagQuery query) {
+        return tagIndex.tagsMatch(query);
     }
 
     /**
@@ -122,16 +233,86 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an identity index of {@code persons}, checking in a single pass that they are all unique.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<IdentityKey, Integer> buildUniqueIdentityIndex(List<Person> persons) {
+        Map<IdentityKey, Integer> index = new HashMap<>(persons.size() * 3);
+        for (Person person : persons) {
+            boolean isPhoneKeyTaken = index.putIfAbsent(IdentityKey.ofNameAndPhone(person), 1) != null;
+            boolean isEmailKeyTaken = index.putIfAbsent(IdentityKey.ofNameAndEmail(person), 1) != null;
+            if (isPhoneKeyTaken || isEmailKeyTaken) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Adds {@code person} to the indexes. Must be called before {@code person} is added to {@code internalList},
+     * so that listeners of {@code internalList} see up-to-date indexes.
+     */
+    private void index(Person person) {
+        identityIndex.merge(IdentityKey.ofNameAndPhone(person), 1, Integer::sum);
+        identityIndex.merge(IdentityKey.ofNameAndEmail(person), 1, Integer::sum);
+        nameTokenIndex.add(person);
+        tagIndex.add(person);
+    }
+
+    /**
+     * Removes the person at {@code index} of {@code internalList} from the indexes.
+     */
+    private void unindex(int index) {
+        Person person = internalList.get(index);
+        positionIndex.remove(index, person);
+        identityIndex.computeIfPresent(IdentityKey.ofNameAndPhone(person), UniquePersonList::decrementCount);
+        identityIndex.computeIfPresent(IdentityKey.ofNameAndEmail(person), UniquePersonList::decrementCount);
+        nameTokenIndex.remove(person);
+        tagIndex.remove(person);
+    }
+
+    /**
+     * Returns {@code count} less one, or null (which drops the key) if no owners remain.
+     */
+    private static Integer decrementCount(IdentityKey key, Integer count) {
+        return count == 1 ? null : count - 1;
+    }
+
+    /**
+     * A hashable pair of a person's name and one other identity field.
+     * Two persons are the same person iff they share at least one {@code IdentityKey}.
+     *
+     * @see Person#isSamePerson(Person)
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object otherField;
+
+        private IdentityKey(Name name, Object otherField) {
+            this.name = name;
+            this.otherField = otherField;
+        }
+
+        static IdentityKey ofNameAndPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofNameAndEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && otherField.equals(((IdentityKey) other).otherField));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, otherField);
+        }
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Tag in the address book.
@@ -12,24 +13,65 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final int NO_ID = -1;
+
     public final String tagName;
 
+    /** The id assigned by {@link TagRegistry} if this is an interned tag, or {@code NO_ID} otherwise. */
+    private final int id;
+
     /**
      * Constructs a {@code Tag}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false, NO_ID);
+    }
+
+    private Tag(String tagName, boolean isValidated, int id) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        checkArgument(isValidated || isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns a {@code Tag} of {@code tagName}, which must already be known to be valid, without validating it again.
+     */
+    public static Tag ofValidated(String tagName) {
+        return new Tag(tagName, true, NO_ID);
+    }
+
+    /**
+     * Returns the interned {@code Tag} of {@code tagName}, which is already known to be valid, with the given id.
+     * Used by {@link TagRegistry} only.
+     */
+    static Tag withId(String tagName, int id) {
+        return new Tag(tagName, true, id);
+    }
+
+    /**
+     * Returns the id of this tag if it was returned by {@link TagRegistry#intern}, or -1 otherwise.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling the regex on every call.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,117 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A query over the tags of a person, made of clauses joined by OR.
+ * Each clause is a set of tags that must be present, joined by AND, and a set of tags that must be absent (NOT).
+ * Guarantees: immutable; has at least one clause, and every clause has at least one tag.
+ */
+public class TagQuery {
+
+    private final List<Clause> clauses;
+
+    /**
+     * Every clause must be non-null, and there must be at least one clause.
+     */
+    public TagQuery(List<Clause> clauses) {
+        requireNonNull(clauses);
+        checkArgument(!clauses.isEmpty(), "A tag query must have at least one clause.");
+        clauses.forEach(Objects::requireNonNull);
+        this.clauses = Collections.unmodifiableList(new ArrayList<>(clauses));
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * Returns true if {@code tags} satisfy any clause of this query.
+     */
+    public boolean matches(Set<Tag> tags) {
+        requireNonNull(tags);
+        return clauses.stream().anyMatch(clause -> clause.matches(tags));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagQuery // instanceof handles nulls
+                && clauses.equals(((TagQuery) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return clauses.stream().map(Clause::toString).collect(Collectors.joining(" or "));
+    }
+
+    /**
+     * A conjunction of tags that must be present and tags that must be absent.
+     */
+    public static class Clause {
+        private final Set<Tag> includedTags;
+        private final Set<Tag> excludedTags;
+
+        /**
+         * Every field must be present and not null, and at least one tag must be given.
+         */
+        public Clause(Set<Tag> includedTags, Set<Tag> excludedTags) {
+            requireNonNull(includedTags);
+            requireNonNull(excludedTags);
+            checkArgument(!includedTags.isEmpty() || !excludedTags.isEmpty(),
+                    "A tag query clause must have at least one tag.");
+            this.includedTags = Collections.unmodifiableSet(new LinkedHashSet<>(includedTags));
+            this.excludedTags = Collections.unmodifiableSet(new LinkedHashSet<>(excludedTags));
+        }
+
+        public Set<Tag> getIncludedTags() {
+            return includedTags;
+        }
+
+        public Set<Tag> getExcludedTags() {
+            return excludedTags;
+        }
+
+        /**
+         * Returns true if {@code tags} contain all the included tags and none of the excluded tags.
+         */
+        public boolean matches(Set<Tag> tags) {
+            return tags.containsAll(includedTags) && Collections.disjoint(tags, excludedTags);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Clause // instanceof handles nulls
+                    && includedTags.equals(((Clause) other).includedTags)
+                    && excludedTags.equals(((Clause) other).excludedTags)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(includedTags, excludedTags);
+        }
+
+        @Override
+        public String toString() {
+            return Stream.concat(includedTags.stream().map(tag -> tag.tagName),
+                    excludedTags.stream().map(tag -> "not " + tag.tagName))
+                    .collect(Collectors.joining(" and "));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns every {@code Tag} used in the application and assigns each distinct tag a small int id.
+ * Ids are assigned from 0 upwards, always taking the lowest free id.
+ *
+ * An address book uses few distinct tags, so all persons with the same tag share one interned {@code Tag}, which
+ * carries its id so that indexes can keep per-tag data in arrays. Interned tags are only held weakly: once no person
+ * of any address book (including its undo history) has a tag, the tag is garbage collected and its id is freed for
+ * another tag, so the registry does not grow with every tag ever used.
+ * Safe for use by multiple threads. Interning a tag that is already registered takes no lock.
+ */
+public class TagRegistry {
+
+    private static final Map<String, TagReference> referencesByName = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Tag> collectedTags = new ReferenceQueue<>();
+    /** Ids of the tags that have not been collected yet. Guarded by the class monitor. */
+    private static final BitSet usedIds = new BitSet();
+
+    private TagRegistry() {} // prevents instantiation
+
+    /**
+     * Returns the interned tag equal to {@code tag}, assigning it an id if it is not registered yet.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        Tag internedTag = getInterned(tag);
+        return internedTag != null ? internedTag : register(tag);
+    }
+
+    /**
+     * Returns the id of the interned tag equal to {@code tag}, or -1 if no such tag is registered.
+     */
+    public static int findId(Tag tag) {
+        requireNonNull(tag);
+        Tag internedTag = getInterned(tag);
+        return internedTag != null ? internedTag.getId() : -1;
+    }
+
+    /**
+     * Returns the number of ids currently assigned.
+     */
+    static synchronized int size() {
+        reclaimCollectedIds();
+        return usedIds.cardinality();
+    }
+
+    private static Tag getInterned(Tag tag) {
+        TagReference reference = referencesByName.get(tag.tagName);
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Interns {@code tag} with the lowest free id, unless another thread has already interned an equal tag.
+     */
+    private static synchronized Tag register(Tag tag) {
+        reclaimCollectedIds();
+        Tag internedTag = getInterned(tag);
+        if (internedTag != null) {
+            return internedTag;
+        }
+
+        int id = usedIds.nextClearBit(0);
+        usedIds.set(id);
+        internedTag = Tag.withId(tag.tagName, id);
+        referencesByName.put(tag.tagName, new TagReference(internedTag, collectedTags));
+        return internedTag;
+    }
+
+    /**
+     * Frees the ids of the interned tags that have been garbage collected.
+     */
+    private static synchronized void reclaimCollectedIds() {
+        TagReference reference;
+        while ((reference = (TagReference) collectedTags.poll()) != null) {
+            usedIds.clear(reference.id);
+            referencesByName.remove(reference.tagName, reference);
+        }
+    }
+
+    /**
+     * A weak reference to an interned tag, which remembers the name and id of the tag once it has been collected.
+     */
+    private static class TagReference extends WeakReference<Tag> {
+        private final String tagName;
+        private final int id;
+
+        TagReference(Tag tag, ReferenceQueue<Tag> queue) {
+            super(tag, queue);
+            this.tagName = tag.tagName;
+            this.id = tag.getId();
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that supports positional updates in logarithmic time.
+ * Every update returns a new list that shares all unchanged structure with the list it was derived from,
+ * so keeping many versions of a large list costs memory proportional to the changes between them only.
+ *
+ * Backed by a size-augmented AVL tree whose in-order traversal is the list order.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} containing the elements of {@code elements} in the same order.
+     * Runs in linear time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        List<? extends E> randomAccessElements = elements instanceof RandomAccess
+                ? elements : new ArrayList<>(elements);
+        return new PersistentList<>(build(randomAccessElements, 0, randomAccessElements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size].
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the number of elements at the start of this list that are the same objects as those at the start of
+     * {@code other}. Subtrees that both lists share are skipped as a whole instead of element by element, so for a
+     * list derived from the other by a few updates, this takes time in proportion to the depth of the trees rather
+     * than the length of the lists.
+     */
+    public int commonPrefixLength(PersistentList<E> other) {
+        requireNonNull(other);
+        return commonLength(new TreeWalker<>(root, false), new TreeWalker<>(other.root, false), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of elements, up to {@code limit}, at the end of this list that are the same objects as those
+     * at the end of {@code other}. Takes time as {@link #commonPrefixLength} does.
+     */
+    public int commonSuffixLength(PersistentList<E> other, int limit) {
+        requireNonNull(other);
+        return commonLength(new TreeWalker<>(root, true), new TreeWalker<>(other.root, true), limit);
+    }
+
+    /**
+     * Returns the number of elements, up to {@code limit}, that {@code first} and {@code second} walk over before
+     * they reach elements that are not the same object.
+     */
+    private static <E> int commonLength(TreeWalker<E> first, TreeWalker<E> second, int limit) {
+        int length = 0;
+        while (!first.isDone() && !second.isDone() && length < limit) {
+            if (first.isSubtree() && second.isSubtree() && first.peek() == second.peek()
+                    && first.peekSize() <= limit - length) {
+                length += first.peekSize();
+                first.skip();
+                second.skip();
+            } else if (!first.isSubtree() && !second.isSubtree()) {
+                if (first.peek().value != second.peek().value) {
+                    break;
+                }
+                length++;
+                first.skip();
+                second.skip();
+            } else if (first.isSubtree() && first.peekSize() >= second.peekSize()) {
+                first.expand();
+            } else {
+                second.expand();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Returns a new mutable {@code ArrayList} with the elements of this list.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this list, which takes constant time as this list never changes.
+     * Each {@code get} of the view takes logarithmic time, while iterating over the view takes linear time.
+     */
+    public List<E> asList() {
+        return new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        Iterator<?> otherIterator = otherList.iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Bound: " + bound);
+        }
+    }
+
+    /**
+     * Returns a perfectly balanced tree of {@code elements} in the range [from, to).
+     */
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the path to {@code index} in the tree at {@code node}, with that element replaced.
+     */
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    /**
+     * Returns the tree at {@code node} with {@code element} inserted at {@code index}, rebalanced.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Returns the tree at {@code node} with the element at {@code index} removed, rebalanced.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            E successor = first(node.right);
+            return balance(successor, node.left, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns the first element in order of the non-empty tree at {@code node}.
+     */
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node with the given contents, rotating as needed so that the AVL height invariant holds.
+     * {@code left} and {@code right} must each already be balanced and differ in height by at most 2.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int heightDifference = height(left) - height(right);
+        if (heightDifference > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value,
+                    new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        } else if (heightDifference < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value,
+                    new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node that caches the size and height of its subtree.
+     */
+    private static class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks over a tree in order, or in reverse order, by whole subtrees that can be skipped at once or expanded into
+     * their left subtree, value and right subtree.
+     */
+    private static class TreeWalker<E> {
+        private final boolean isReversed;
+        /** Nodes still to be walked over, the next one on top. */
+        private final Deque<Node<E>> nodes = new ArrayDeque<>();
+        /** Whether each node in {@code nodes} stands for its whole subtree, rather than for its value only. */
+        private final Deque<Boolean> isSubtrees = new ArrayDeque<>();
+
+        TreeWalker(Node<E> root, boolean isReversed) {
+            this.isReversed = isReversed;
+            push(root, true);
+        }
+
+        boolean isDone() {
+            return nodes.isEmpty();
+        }
+
+        Node<E> peek() {
+            return nodes.peek();
+        }
+
+        /**
+         * Returns true if the next node stands for its whole subtree.
+         */
+        boolean isSubtree() {
+            return isSubtrees.peek();
+        }
+
+        /**
+         * Returns the number of elements that the next node stands for.
+         */
+        int peekSize() {
+            return isSubtree() ? nodes.peek().size : 1;
+        }
+
+        void skip() {
+            nodes.pop();
+            isSubtrees.pop();
+        }
+
+        /**
+         * Replaces the next node, which stands for its whole subtree, by its subtrees and its value.
+         */
+        void expand() {
+            Node<E> node = nodes.peek();
+            skip();
+            push(isReversed ? node.left : node.right, true);
+            push(node, false);
+            push(isReversed ? node.right : node.left, true);
+        }
+
+        private void push(Node<E> node, boolean isSubtree) {
+            if (node != null) {
+                nodes.push(node);
+                isSubtrees.push(isSubtree);
+            }
+        }
+    }
+
+    /**
+     * Iterates over a tree in order using an explicit stack.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> stack = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.util.WeakInterner;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * Shares a single instance between equal person fields created while loading or parsing, so that an address book in
+ * which many persons repeat the same values (e.g. an office address) holds one copy of each value.
+ * Values are shared only among those interned by the same interner, so the storage and the parsers of an application
+ * should be given the same one. An interner can be created switched off, in which case every method returns its
+ * argument.
+ * Tags need no interning here, as persons store them through {@link TagRegistry}.
+ */
+public class ValueInterner {
+
+    /** An interner that is switched off, which returns every value as it is. */
+    public static final ValueInterner DISABLED = new ValueInterner(false);
+
+    /**
+     * Estimated bytes taken by a value object wrapping a {@code String} with the string's own object and array
+     * headers, assuming compressed object pointers.
+     */
+    private static final int VALUE_OBJECT_OVERHEAD_BYTES = 16 + 24 + 16;
+
+    private final boolean isEnabled;
+
+    private final WeakInterner<Name> names = new WeakInterner<>();
+    private final WeakInterner<Phone> phones = new WeakInterner<>();
+    private final WeakInterner<Email> emails = new WeakInterner<>();
+    private final WeakInterner<Address> addresses = new WeakInterner<>();
+
+    // adders rather than atomic longs, as every thread of a parallel load updates them
+    private final LongAdder sharedCount = new LongAdder();
+    private final LongAdder sharedBytes = new LongAdder();
+
+    /**
+     * Creates an interner that shares equal values if {@code isEnabled}, and returns every value as it is otherwise.
+     */
+    public ValueInterner(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Returns the shared {@code Name} equal to {@code name}.
+     */
+    public Name intern(Name name) {
+        return isEnabled ? record(name, names.intern(name), name.fullName) : name;
+    }
+
+    /**
+     * Returns the shared {@code Phone} equal to {@code phone}.
+     */
+    public Phone intern(Phone phone) {
+        return isEnabled ? record(phone, phones.intern(phone), phone.value) : phone;
+    }
+
+    /**
+     * Returns the shared {@code Email} equal to {@code email}.
+     */
+    public Email intern(Email email) {
+        return isEnabled ? record(email, emails.intern(email), email.value) : email;
+    }
+
+    /**
+     * Returns the shared {@code Address} equal to {@code address}.
+     */
+    public Address intern(Address address) {
+        return isEnabled ? record(address, addresses.intern(address), address.value) : address;
+    }
+
+    /**
+     * Returns a summary of the memory saved by this interner since it was created.
+     */
+    public String getReport() {
+        return String.format("Value interning shared %d duplicate values, saving about %d KB (%d distinct values)",
+                sharedCount.sum(), sharedBytes.sum() / 1024,
+                names.size() + phones.size() + emails.size() + addresses.size());
+    }
+
+    /**
+     * Records whether {@code canonical} replaced a duplicate {@code value}, whose text is {@code text}.
+     */
+    private <T> T record(T value, T canonical, String text) {
+        if (canonical != value) {
+            sharedCount.increment();
+            sharedBytes.add(estimateSize(text));
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the estimated bytes taken by a value object wrapping {@code text}, which is assumed to be Latin-1.
+     */
+    private static long estimateSize(String text) {
+        long arrayBytes = (text.length() + 7) & ~7L;
+        return VALUE_OBJECT_OVERHEAD_BYTES + arrayBytes;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The formats that an address book can be stored in.
+ */
+public enum AddressBookFormat {
+    JSON,
+    /** A json snapshot plus a journal of the changes made since, which must be replayed to read the address book. */
+    JOURNAL,
+    BINARY,
+    SHARDED;
+
+    /**
+     * Returns the format of the address book in {@code filePath}, judging by the first bytes of the file, or by its
+     * first field if it is json. A json file with a journal next to it is taken to be in {@code JOURNAL}.
+     * A file that does not exist is taken to be in {@code JSON}.
+     */
+    public static AddressBookFormat detect(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return JSON;
+        }
+
+        byte[] header = new byte[BinaryAddressBookCodec.MAGIC.length];
+        int length;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            length = in.readNBytes(header, 0, header.length);
+        }
+        if (length == header.length && BinaryAddressBookCodec.hasMagic(header)) {
+            return BINARY;
+        }
+        if (ShardedAddressBookStorage.isManifest(filePath)) {
+            return SHARDED;
+        }
+        return Files.exists(JournalAddressBookStorage.getJournalPath(filePath)) ? JOURNAL : JSON;
+    }
+
+    /**
+     * Returns a storage that reads and writes address books in this format at {@code filePath}, as set by
+     * {@code settings}.
+     */
+    public AddressBookStorage createStorage(Path filePath, StorageSettings settings) {
+        switch (this) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, settings);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath, ShardedAddressBookStorage.DEFAULT_SEGMENT_COUNT, settings);
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath, settings);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath, false, settings);
+        }
+    }
+}
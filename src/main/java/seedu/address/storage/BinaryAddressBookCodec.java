@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book into a compact binary format, and decodes it back.
+ *
+ * The format starts with {@link #MAGIC} and a version number, followed by a table of the strings shared between
+ * persons (addresses, email domains and tag names), each stored once, and then one record per person. A record holds
+ * the name, phone and local part of the email as strings, and the address, email domain and tags as indexes into the
+ * string table. Every number is an unsigned varint, every string is its length in bytes followed by its UTF-8 bytes,
+ * and every record is prefixed with its length in bytes, so a reader can skip records without decoding them.
+ *
+ * Since version {@value #INDEXED_VERSION}, the records are followed by an offset table holding the position in the
+ * file of every string and then of every record, each as an 8-byte big-endian number, and by a footer of
+ * {@value #FOOTER_BYTES} bytes holding the position of the offset table, the number of strings and the number of
+ * persons. A reader can thus find any person from the end of the file without reading the ones before it.
+ */
+class BinaryAddressBookCodec {
+
+    /** The first bytes of every binary address book. The first byte is not ASCII, so json never starts with it. */
+    static final byte[] MAGIC = {(byte) 0x89, 'A', 'B', 'K'};
+    static final int VERSION = 2;
+    static final int INDEXED_VERSION = 2;
+    static final int OFFSET_BYTES = Long.BYTES;
+    static final int FOOTER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    static final int MAX_VARINT_BYTES = 5;
+
+    private static final int INITIAL_RECORD_CAPACITY = 256;
+
+    private BinaryAddressBookCodec() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, start with {@link #MAGIC}.
+     */
+    static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length && Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC);
+    }
+
+    /**
+     * Writes {@code persons} to {@code out}.
+     */
+    static void encode(List<Person> persons, OutputStream out) throws IOException {
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        for (Person person : persons) {
+            addString(stringIds, person.getAddress().value);
+            addString(stringIds, getDomain(person.getEmail().value));
+            for (Tag tag : person.getTags()) {
+                addString(stringIds, tag.tagName);
+            }
+        }
+
+        CountingOutputStream counted = new CountingOutputStream(out);
+        counted.write(MAGIC);
+        writeVarint(counted, VERSION);
+        writeVarint(counted, stringIds.size());
+        long[] stringOffsets = new long[stringIds.size()];
+        for (String string : stringIds.keySet()) {
+            stringOffsets[stringIds.get(string)] = counted.getCount();
+            writeString(counted, string);
+        }
+
+        writeVarint(counted, persons.size());
+        long[] recordOffsets = new long[persons.size()];
+        ByteArrayOutputStream record = new ByteArrayOutputStream(INITIAL_RECORD_CAPACITY);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            record.reset();
+            String email = person.getEmail().value;
+            writeString(record, person.getName().fullName);
+            writeString(record, person.getPhone().value);
+            writeString(record, email.substring(0, email.indexOf('@')));
+            writeVarint(record, stringIds.get(getDomain(email)));
+            writeVarint(record, stringIds.get(person.getAddress().value));
+            writeVarint(record, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarint(record, stringIds.get(tag.tagName));
+            }
+            recordOffsets[i] = counted.getCount();
+            writeVarint(counted, record.size());
+            record.writeTo(counted);
+        }
+
+        long indexOffset = counted.getCount();
+        DataOutputStream index = new DataOutputStream(counted);
+        for (long offset : stringOffsets) {
+            index.writeLong(offset);
+        }
+        for (long offset : recordOffsets) {
+            index.writeLong(offset);
+        }
+        index.writeLong(indexOffset);
+        index.writeInt(stringOffsets.length);
+        index.writeInt(recordOffsets.length);
+        index.flush();
+    }
+
+    /**
+     * Reads every person in {@code buffer}, which holds a whole binary address book, and passes them in order to
+     * {@code decoder}.
+     *
+     * @throws IOException if {@code buffer} does not hold a binary address book of a supported version.
+     */
+    static void decode(ByteBuffer buffer, PersonListDecoder decoder) throws IOException {
+        try {
+            int version = readVersion(buffer);
+            String[] strings = readStrings(buffer);
+            int personCount = readCount(buffer);
+            for (int i = 0; i < personCount; i++) {
+                decoder.add(decodePerson(nextRecord(buffer), index -> strings[index]));
+            }
+            if (version >= INDEXED_VERSION) {
+                skipOffsetTable(buffer, strings.length, personCount);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary address book is truncated or corrupt", e);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Binary address book has unexpected data after the last person");
+        }
+    }
+
+    /**
+     * Reads the magic bytes and version at the start of {@code buffer}.
+     *
+     * @return the version.
+     * @throws IOException if {@code buffer} does not hold a binary address book of a supported version.
+     */
+    static int readVersion(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary address book");
+        }
+        int version = readVarint(buffer);
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Reads the string table at the position of {@code buffer}.
+     */
+    private static String[] readStrings(ByteBuffer buffer) throws IOException {
+        String[] strings = new String[readCount(buffer)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+        return strings;
+    }
+
+    /**
+     * Moves the position of {@code buffer} past the offset table and footer, which are not needed to read the
+     * persons in order.
+     */
+    private static void skipOffsetTable(ByteBuffer buffer, int stringCount, int personCount) {
+        long length = ((long) stringCount + personCount) * OFFSET_BYTES + FOOTER_BYTES;
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(buffer.position() + (int) length);
+    }
+
+    /**
+     * Returns the record at the position of {@code buffer}, and moves the position past it.
+     */
+    static ByteBuffer nextRecord(ByteBuffer buffer) throws IOException {
+        int length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer record = buffer.slice();
+        record.limit(length);
+        buffer.position(buffer.position() + length);
+        return record;
+    }
+
+    /**
+     * Decodes the person in {@code record}, whose strings are looked up in {@code strings}.
+     * Data constraints are not checked here, but when the returned person is converted into the model's type.
+     * Bytes after the known fields of the record are ignored, so that later versions can add fields.
+     */
+    static JsonAdaptedPerson decodePerson(ByteBuffer record, StringTable strings) throws IOException {
+        String name = readString(record);
+        String phone = readString(record);
+        String localPart = readString(record);
+        String email = localPart + '@' + strings.get(readVarint(record));
+        String address = strings.get(readVarint(record));
+        int tagCount = readCount(record);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(strings.get(readVarint(record))));
+        }
+        return new JsonAdaptedPerson(name, phone, email, address, tags);
+    }
+
+    private static void addString(Map<String, Integer> stringIds, String string) {
+        if (!stringIds.containsKey(string)) {
+            stringIds.put(string, stringIds.size());
+        }
+    }
+
+    private static String getDomain(String email) {
+        return email.substring(email.indexOf('@') + 1);
+    }
+
+    /**
+     * Writes the non-negative {@code value} to {@code out}, seven bits per byte, least significant bits first.
+     * The highest bit of each byte is set if more bytes follow.
+     */
+    static void writeVarint(OutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Reads a non-negative int written by {@link #writeVarint}.
+     */
+    static int readVarint(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            if (shift == 28 && (b & 0xF8) != 0) {
+                break; // the value does not fit in a non-negative int
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Binary address book has a malformed number");
+    }
+
+    /**
+     * Reads the number of items that follow, each of which takes at least one byte.
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = readVarint(buffer);
+        if (count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static void writeString(OutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}.
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        return readUtf8(buffer, readVarint(buffer));
+    }
+
+    /**
+     * Reads a string from the next {@code length} bytes of {@code buffer}, which hold its UTF-8 bytes.
+     */
+    static String readUtf8(ByteBuffer buffer, int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (!buffer.hasArray()) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    /**
+     * Looks up the strings of a binary address book by their index in its string table.
+     */
+    @FunctionalInterface
+    interface StringTable {
+        String get(int index) throws IOException;
+    }
+
+    /**
+     * Counts the bytes written through it, so that the position of each string and record can be recorded.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
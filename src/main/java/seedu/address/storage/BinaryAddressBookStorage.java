@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookCodec} on the hard disk.
+ * The file is mapped into memory to be read, so that its bytes are never all held on the heap.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final StorageSettings settings;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, StorageSettings.DEFAULT);
+    }
+
+    public BinaryAddressBookStorage(Path filePath, StorageSettings settings) {
+        this.filePath = filePath;
+        this.settings = requireNonNull(settings);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            PersonListDecoder decoder = settings.createDecoder();
+            decode(filePath, decoder);
+            ReadOnlyAddressBook addressBook = decoder.toAddressBook();
+            logger.info(settings.getValueInterner().getReport());
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Passes every person in the binary address book at {@code filePath} to {@code decoder}, reading them through a
+     * mapping of the file that is released once they have all been passed.
+     */
+    private static void decode(Path filePath, PersonListDecoder decoder) throws IOException {
+        try (MappedFile file = MappedFile.map(filePath)) {
+            if (MappedAddressBook.hasOffsetTable(file)) {
+                MappedAddressBook.open(filePath, file, 0).decodeAll(decoder);
+                return;
+            }
+
+            // versions without an offset table can only be read in order
+            if (file.size() > Integer.MAX_VALUE) {
+                throw new IOException("Binary address book without an offset table is too large to be read");
+            }
+            BinaryAddressBookCodec.decode(file.slice(0, (int) file.size()), decoder);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced only once the address book has been completely written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> BinaryAddressBookCodec.encode(addressBook.getPersonList(), out),
+                settings.isSyncEnabled());
+    }
+
+}
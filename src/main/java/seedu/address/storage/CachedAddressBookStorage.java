@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that keeps a binary copy of the address book of a json storage in a cache file next
+ * to its data file, so that a data file that has not changed since it was last read or saved can be loaded without
+ * being parsed.
+ *
+ * The cache file starts with the size, last modified time and CRC-32C checksum of the data file it was made from,
+ * followed by the version of the data constraints its persons were validated by and a checksum of their values, as
+ * written by {@link JsonAddressBookWriter}, and then the address book in the format of {@link BinaryAddressBookCodec}.
+ * It is used only if the data file still has the same size, last modified time and checksum, and its persons are
+ * then not validated again, unless their values do not match their checksum.
+ *
+ * Whenever the data file is read without the cache or saved, the cache file is rewritten once the storage is flushed,
+ * which the application does when it exits. The checksum of a saved data file is computed as it is written, so saving
+ * costs no more than without the cache. The data file is always kept up to date, so a cache file that cannot be read
+ * or written, or was not rewritten because the application crashed, is ignored.
+ */
+public class CachedAddressBookStorage implements AddressBookStorage {
+
+    static final String CACHE_FILE_SUFFIX = ".cache";
+    static final byte[] CACHE_MAGIC = {(byte) 0x89, 'A', 'B', 'C'};
+
+    private static final Logger logger = LogsCenter.getLogger(CachedAddressBookStorage.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final JsonAddressBookStorage storage;
+
+    /** The cache file to write when the storage is flushed, if any. Guarded by this object's monitor. */
+    private PendingCache pendingCache;
+
+    public CachedAddressBookStorage(JsonAddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the path of the cache file of the data file at {@code filePath}.
+     */
+    public static Path getCacheFilePath(Path filePath) {
+        Path fileName = Paths.get(filePath.getFileName() + CACHE_FILE_SUFFIX);
+        return filePath.getParent() == null ? fileName : filePath.getParent().resolve(fileName);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return storage.getAddressBookFormat();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return storage.readAddressBook(filePath);
+        }
+
+        Path cacheFilePath = getCacheFilePath(filePath);
+        // taken before the data file is read, so that a data file modified while it is read never matches the cache
+        FileKey key = FileKey.of(filePath);
+        Optional<ReadOnlyAddressBook> cachedAddressBook = readCache(cacheFilePath, key, storage.getSettings());
+        if (cachedAddressBook.isPresent()) {
+            logger.info("Read address book from cache file " + cacheFilePath);
+            return cachedAddressBook;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            setPendingCache(new PendingCache(cacheFilePath, key, addressBook.get()));
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        CRC32C fileChecksum = new CRC32C();
+        storage.saveAddressBook(addressBook, filePath, fileChecksum);
+        FileKey key = new FileKey(Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis(),
+                fileChecksum.getValue());
+        setPendingCache(new PendingCache(getCacheFilePath(filePath), key, addressBook));
+    }
+
+    /**
+     * Writes the cache file of the address book last read from or saved to the data file, if it has not been
+     * written yet.
+     */
+    @Override
+    public void flushAddressBook() {
+        PendingCache cache;
+        synchronized (this) {
+            cache = pendingCache;
+            pendingCache = null;
+        }
+        if (cache != null) {
+            cache.write(storage.getSettings().isSyncEnabled());
+        }
+    }
+
+    private synchronized void setPendingCache(PendingCache cache) {
+        pendingCache = cache;
+    }
+
+    /**
+     * Returns the address book in the cache file at {@code cacheFilePath} if it was made from a data file with the
+     * given {@code key}, or {@code Optional.empty()} if it was not, or cannot be read. The persons are converted as
+     * set by {@code settings}.
+     */
+    private static Optional<ReadOnlyAddressBook> readCache(Path cacheFilePath, FileKey key,
+            StorageSettings settings) {
+        if (!Files.exists(cacheFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cacheFilePath));
+            byte[] magic = new byte[CACHE_MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, CACHE_MAGIC) || !key.equals(FileKey.read(buffer))
+                    || buffer.getInt() != JsonAdaptedPerson.VALIDATION_VERSION) {
+                logger.info("Cache file " + cacheFilePath + " is out of date");
+                return Optional.empty();
+            }
+
+            PersonListDecoder decoder = settings.createTrustedDecoder(buffer.getLong());
+            BinaryAddressBookCodec.decode(buffer, decoder);
+            if (!decoder.hasExpectedChecksum()) {
+                logger.warning("Ignoring cache file " + cacheFilePath + " as its persons do not match their checksum");
+                return Optional.empty();
+            }
+            return Optional.of(decoder.toAddressBook());
+        } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+            logger.warning("Ignoring unreadable cache file " + cacheFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The persons of a data file with a given key, which are yet to be written to its cache file.
+     */
+    private static class PendingCache {
+        private final Path cacheFilePath;
+        private final FileKey key;
+        private final List<Person> persons;
+
+        PendingCache(Path cacheFilePath, FileKey key, ReadOnlyAddressBook addressBook) {
+            this.cacheFilePath = cacheFilePath;
+            this.key = key;
+            // copied, as the address book may change before the cache file is written
+            this.persons = new ArrayList<>(addressBook.getPersonList());
+        }
+
+        /**
+         * Writes the persons to the cache file, forcing it to the disk if {@code isSynced}, and logs any failure.
+         */
+        void write(boolean isSynced) {
+            try {
+                FileUtil.writeAtomically(cacheFilePath, out -> {
+                    DataOutputStream data = new DataOutputStream(out);
+                    data.write(CACHE_MAGIC);
+                    key.write(data);
+                    data.writeInt(JsonAdaptedPerson.VALIDATION_VERSION);
+                    data.writeLong(JsonAddressBookWriter.getChecksum(persons));
+                    data.flush();
+                    BinaryAddressBookCodec.encode(persons, out);
+                }, isSynced);
+                logger.info("Wrote cache file " + cacheFilePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to write cache file " + cacheFilePath + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * The size, last modified time and checksum of a data file, which change whenever its content does.
+     */
+    private static class FileKey {
+        private final long size;
+        private final long lastModifiedMillis;
+        private final long checksum;
+
+        private FileKey(long size, long lastModifiedMillis, long checksum) {
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the key of the file at {@code filePath}, which is read in full to compute its checksum.
+         */
+        static FileKey of(Path filePath) throws IOException {
+            long size = Files.size(filePath);
+            long lastModifiedMillis = Files.getLastModifiedTime(filePath).toMillis();
+            CRC32C checksum = new CRC32C();
+            byte[] bytes = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(filePath)) {
+                int count;
+                while ((count = in.read(bytes)) != -1) {
+                    checksum.update(bytes, 0, count);
+                }
+            }
+            return new FileKey(size, lastModifiedMillis, checksum.getValue());
+        }
+
+        /**
+         * Reads a key written by {@link #write} at the position of {@code buffer}.
+         */
+        static FileKey read(ByteBuffer buffer) {
+            return new FileKey(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModifiedMillis);
+            out.writeLong(checksum);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FileKey // instanceof handles nulls
+                    && size == ((FileKey) other).size
+                    && lastModifiedMillis == ((FileKey) other).lastModifiedMillis
+                    && checksum == ((FileKey) other).checksum);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModifiedMillis, checksum);
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since.
+ *
+ * Saving the address book appends a record of each person added, replaced or removed to the journal, instead of
+ * rewriting the snapshot, so a save costs time in proportion to the size of the change rather than the size of the
+ * address book. The records are taken from the change log of the address book when it knows every change made since
+ * the last save, and found by comparing the persons with those last saved otherwise. Once the journal grows past a
+ * threshold, a fresh snapshot is written in the background and the
+ * records it includes are dropped from the journal.
+ *
+ * Records are numbered, and the snapshot stores the number of the last record it includes, so the files are
+ * consistent at every point of a save or compaction, and a record torn by a crash is ignored.
+ * The snapshot is in the same format as the file of {@link JsonAddressBookStorage}, plus that number. A snapshot
+ * without it was written by another storage after the journal, so such a journal is discarded instead of replayed.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %d: %s";
+    public static final String MESSAGE_MISSING_RECORD = "Journal record %d is missing";
+    public static final String MESSAGE_OUT_OF_ORDER_RECORD = "Journal record %d follows record %d";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    /** Changes to more persons than this are saved by writing a fresh snapshot instead. */
+    private static final int MIN_RECORDS_BEFORE_SNAPSHOT = 64;
+    /** Log id of no change log, as {@link ChangeLog} numbers its logs from 1. */
+    private static final long NO_LOG_ID = 0;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final long compactionThreshold;
+    private final Executor compactor;
+    private final StorageSettings settings;
+
+    // The following fields are guarded by this object's monitor.
+    /** The persons as saved in the files, or null if they are not known. Updated in place by each save. */
+    private List<Person> savedPersons;
+    /** Id of the change log of the address book last saved, or {@link #NO_LOG_ID} if it had none. */
+    private long savedLogId = NO_LOG_ID;
+    /** Modification count of the change log of the address book last saved. */
+    private long savedModificationCount;
+    private long lastRecordNumber;
+    private long journalSize;
+    /** Incremented whenever the snapshot is replaced, so that an out-of-date compaction can be discarded. */
+    private long snapshotVersion;
+    private boolean isCompacting;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, StorageSettings.DEFAULT);
+    }
+
+    public JournalAddressBookStorage(Path filePath, StorageSettings settings) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        }), settings);
+    }
+
+    /**
+     * @param compactionThreshold size in bytes that the journal may grow to before it is compacted.
+     * @param compactor runs compactions.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold, Executor compactor,
+            StorageSettings settings) {
+        this.filePath = requireNonNull(filePath);
+        this.journalPath = getJournalPath(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = requireNonNull(compactor);
+        this.settings = requireNonNull(settings);
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.JOURNAL;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot, whose journal is next to it. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format, or if the records
+     *     in the journal do not follow the last record included in the snapshot.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<JsonAddressBookReader.Snapshot> snapshot = JsonAddressBookReader.readSnapshot(filePath, settings);
+            if (!snapshot.isPresent()) {
+                return Optional.empty();
+            }
+
+            Path journal = getJournalPath(filePath);
+            if (!snapshot.get().getLastRecordNumber().isPresent()) {
+                // the snapshot was written by another storage, so it already includes any changes in the journal
+                if (Files.exists(journal)) {
+                    logger.warning("Discarding journal of " + filePath + ", which is older than the address book");
+                }
+                if (filePath.equals(this.filePath)) {
+                    Files.deleteIfExists(journalPath);
+                    journalSize = 0;
+                    // the first save writes a snapshot that records numbers, before any record is appended
+                    savedPersons = null;
+                    savedLogId = NO_LOG_ID;
+                }
+                return Optional.of(snapshot.get().getAddressBook());
+            }
+
+            List<Person> persons = new ArrayList<>(snapshot.get().getAddressBook().getPersonList());
+            long recordNumber = snapshot.get().getLastRecordNumber().getAsLong();
+            long validJournalSize = 0;
+            if (Files.exists(journal)) {
+                byte[] journalBytes = Files.readAllBytes(journal);
+                validJournalSize = getCompleteRecordsLength(journalBytes);
+                recordNumber = replay(journalBytes, validJournalSize, recordNumber, persons);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            if (filePath.equals(this.filePath)) {
+                dropIncompleteRecord(validJournalSize);
+                savedPersons = persons;
+                savedLogId = NO_LOG_ID;
+                lastRecordNumber = recordNumber;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in " + filePath + ": " + dpe.getMessage());
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal of " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only changes to the address book at {@link #getAddressBookFilePath()} are journaled. Saving to any other path
+     * writes a fresh snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!filePath.equals(this.filePath)) {
+            Files.deleteIfExists(getJournalPath(filePath));
+            writeSnapshot(filePath, persons, 0);
+            return;
+        }
+
+        if (savedPersons == null) {
+            // the files may hold anything, so discard the journal before its records can be replayed
+            Files.deleteIfExists(journalPath);
+            journalSize = 0;
+            lastRecordNumber = 0;
+            replaceSnapshot(addressBook);
+            return;
+        }
+
+        Optional<List<ChangeLog.Change>> changes = addressBook.getChangeLog()
+                .filter(changeLog -> changeLog.getLogId() == savedLogId)
+                .flatMap(changeLog -> changeLog.getChangesSince(savedModificationCount));
+        List<JsonAdaptedJournalRecord> records = changes.isPresent()
+                ? getRecords(changes.get(), lastRecordNumber + 1)
+                : getRecords(savedPersons, persons, lastRecordNumber + 1);
+        if (records.size() > Math.max(MIN_RECORDS_BEFORE_SNAPSHOT, persons.size() / 2)) {
+            lastRecordNumber += records.size();
+            replaceSnapshot(addressBook);
+            Files.deleteIfExists(journalPath);
+            journalSize = 0;
+            return;
+        }
+
+        appendToJournal(records);
+        lastRecordNumber += records.size();
+        if (changes.isPresent()) {
+            applyChanges(savedPersons, changes.get());
+        } else {
+            savedPersons = new ArrayList<>(persons);
+        }
+        rememberChangeLog(addressBook);
+
+        if (journalSize > compactionThreshold && !isCompacting) {
+            isCompacting = true;
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Returns the records that change {@code savedPersons} into {@code persons}, numbered from {@code firstNumber}.
+     * Persons before and after the changed range are matched, so that a typical command produces a single record.
+     */
+    private static List<JsonAdaptedJournalRecord> getRecords(List<Person> savedPersons, List<Person> persons,
+            long firstNumber) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (persons.isEmpty() && !savedPersons.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.clear(firstNumber));
+            return records;
+        }
+
+        int maxCommonLength = Math.min(savedPersons.size(), persons.size());
+        int start = 0;
+        while (start < maxCommonLength && isSame(savedPersons.get(start), persons.get(start))) {
+            start++;
+        }
+        int savedEnd = savedPersons.size();
+        int end = persons.size();
+        while (savedEnd > start && end > start && isSame(savedPersons.get(savedEnd - 1), persons.get(end - 1))) {
+            savedEnd--;
+            end--;
+        }
+
+        long number = firstNumber;
+        int replacedCount = Math.min(savedEnd - start, end - start);
+        for (int i = start; i < start + replacedCount; i++) {
+            records.add(JsonAdaptedJournalRecord.set(number++, i, persons.get(i)));
+        }
+        for (int i = start + replacedCount; i < savedEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(number++, start + replacedCount));
+        }
+        for (int i = start + replacedCount; i < end; i++) {
+            records.add(JsonAdaptedJournalRecord.add(number++, i, persons.get(i)));
+        }
+        return records;
+    }
+
+    /**
+     * Returns the records of {@code changes}, numbered from {@code firstNumber}.
+     */
+    private static List<JsonAdaptedJournalRecord> getRecords(List<ChangeLog.Change> changes, long firstNumber) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        long number = firstNumber;
+        for (ChangeLog.Change change : changes) {
+            if (!change.getAdded().isPresent()) {
+                records.add(JsonAdaptedJournalRecord.remove(number++, change.getIndex()));
+            } else if (change.getRemoved().isPresent()) {
+                records.add(JsonAdaptedJournalRecord.set(number++, change.getIndex(), change.getAdded().get()));
+            } else {
+                records.add(JsonAdaptedJournalRecord.add(number++, change.getIndex(), change.getAdded().get()));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Makes {@code changes} to {@code persons}, as replaying their records would.
+     */
+    private static void applyChanges(List<Person> persons, List<ChangeLog.Change> changes) {
+        for (ChangeLog.Change change : changes) {
+            if (!change.getAdded().isPresent()) {
+                persons.remove(change.getIndex());
+            } else if (change.getRemoved().isPresent()) {
+                persons.set(change.getIndex(), change.getAdded().get());
+            } else {
+                persons.add(change.getIndex(), change.getAdded().get());
+            }
+        }
+    }
+
+    /**
+     * Remembers the modification count of the change log of {@code addressBook}, if it has one, so that the next
+     * save of the same address book can take its records from the log.
+     */
+    private void rememberChangeLog(ReadOnlyAddressBook addressBook) {
+        savedLogId = addressBook.getChangeLog().map(ChangeLog::getLogId).orElse(NO_LOG_ID);
+        savedModificationCount = addressBook.getChangeLog().map(ChangeLog::getModificationCount).orElse(0L);
+    }
+
+    private static boolean isSame(Person savedPerson, Person person) {
+        return savedPerson == person || savedPerson.equals(person);
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line, and forces them to the disk if sync is enabled.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(UTF_8);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (settings.isSyncEnabled()) {
+                channel.force(false);
+            }
+        }
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Returns the length of the complete records at the start of {@code journalBytes}.
+     * A record is complete once the line break after it has been written.
+     */
+    private static int getCompleteRecordsLength(byte[] journalBytes) {
+        int length = journalBytes.length;
+        while (length > 0 && journalBytes[length - 1] != '\n') {
+            length--;
+        }
+        return length;
+    }
+
+    /**
+     * Applies the complete records in {@code journalBytes} that are not already included in the snapshot to
+     * {@code persons}, which holds the persons of the snapshot.
+     *
+     * @param snapshotRecordNumber number of the last record included in the snapshot.
+     * @return the number of the last record in the journal.
+     * @throws IllegalValueException if a record is invalid, missing or out of order.
+     * @throws IOException if a record is not in the correct format.
+     */
+    private static long replay(byte[] journalBytes, long completeRecordsLength, long snapshotRecordNumber,
+            List<Person> persons) throws IllegalValueException, IOException {
+        if (completeRecordsLength < journalBytes.length) {
+            logger.warning("Ignoring incomplete journal record at the end of the journal");
+        }
+
+        long recordNumber = snapshotRecordNumber;
+        Long previousNumber = null;
+        String[] lines = new String(journalBytes, 0, (int) completeRecordsLength, UTF_8).split("\n");
+        for (String line : lines) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            if (previousNumber != null && record.getNumber() != previousNumber + 1) {
+                // records are only ever appended in order, so the journal is not the one of this snapshot
+                throw new IllegalValueException(String.format(MESSAGE_OUT_OF_ORDER_RECORD, record.getNumber(),
+                        previousNumber));
+            }
+            previousNumber = record.getNumber();
+            if (record.getNumber() <= snapshotRecordNumber) {
+                continue;
+            }
+            if (record.getNumber() != recordNumber + 1) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, recordNumber + 1));
+            }
+            try {
+                record.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record.getNumber(),
+                        ive.getMessage()), ive);
+            }
+            recordNumber = record.getNumber();
+        }
+        return recordNumber;
+    }
+
+    /**
+     * Truncates the journal to {@code validJournalSize}, dropping a record torn by a crash so that later records
+     * are appended after the last complete one.
+     */
+    private void dropIncompleteRecord(long validJournalSize) throws IOException {
+        if (Files.exists(journalPath) && Files.size(journalPath) > validJournalSize) {
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validJournalSize);
+            }
+        }
+        journalSize = validJournalSize;
+    }
+
+    /**
+     * Replaces the snapshot with one of the persons of {@code addressBook}, which include every record up to
+     * {@code lastRecordNumber}.
+     */
+    private void replaceSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        writeSnapshot(filePath, persons, lastRecordNumber);
+        savedPersons = persons;
+        rememberChangeLog(addressBook);
+        snapshotVersion++;
+    }
+
+    /**
+     * Writes a fresh snapshot from the current state and drops the records it includes from the journal.
+     * Runs on the compactor.
+     */
+    private void compact() {
+        List<Person> persons;
+        long recordNumber;
+        long compactedJournalSize;
+        long version;
+        synchronized (this) {
+            // saves update the saved persons in place, so the compaction writes a copy of them
+            persons = new ArrayList<>(savedPersons);
+            recordNumber = lastRecordNumber;
+            compactedJournalSize = journalSize;
+            version = snapshotVersion;
+        }
+
+        try {
+            // the snapshot is written without holding the lock, so saves may continue to append to the journal
+            Path tempFile = writeTempSnapshot(filePath, persons, recordNumber);
+            synchronized (this) {
+                if (version != snapshotVersion) {
+                    Files.deleteIfExists(tempFile);
+                    return;
+                }
+                FileUtil.moveAtomically(tempFile, filePath, settings.isSyncEnabled());
+                snapshotVersion++;
+                dropJournalHead(compactedJournalSize);
+            }
+            logger.fine("Compacted journal of " + filePath + " up to record " + recordNumber);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(ioe));
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Removes the first {@code length} bytes of the journal, which hold records included in the snapshot.
+     */
+    private void dropJournalHead(long length) throws IOException {
+        if (length >= journalSize) {
+            Files.deleteIfExists(journalPath);
+            journalSize = 0;
+            return;
+        }
+
+        byte[] journalBytes = Files.readAllBytes(journalPath);
+        byte[] tail = Arrays.copyOfRange(journalBytes, (int) length, journalBytes.length);
+        FileUtil.writeAtomically(journalPath, out -> out.write(tail), settings.isSyncEnabled());
+        journalSize = tail.length;
+    }
+
+    /**
+     * Writes a snapshot of {@code persons}, which include every record up to {@code recordNumber}, to
+     * {@code filePath}, replacing the file only once the snapshot is completely written.
+     */
+    private void writeSnapshot(Path filePath, List<Person> persons, long recordNumber) throws IOException {
+        FileUtil.moveAtomically(writeTempSnapshot(filePath, persons, recordNumber), filePath, settings.isSyncEnabled());
+    }
+
+    /**
+     * Writes a snapshot of {@code persons} to a new temporary file next to {@code filePath}.
+     *
+     * @return the path of the temporary file.
+     */
+    private Path writeTempSnapshot(Path filePath, List<Person> persons, long recordNumber) throws IOException {
+        return JsonAddressBookWriter.writeTempFile(persons, OptionalLong.of(recordNumber), filePath, false,
+                settings.isSyncEnabled());
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the list of persons in an address book, as recorded in a journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record's index %d is out of bounds for %d person(s)";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Type {
+        /** Inserts a person at an index. */
+        ADD,
+        /** Replaces the person at an index. */
+        SET,
+        /** Removes the person at an index. */
+        REMOVE,
+        /** Removes every person. */
+        CLEAR
+    }
+
+    private final long number;
+    private final Type type;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("number") long number, @JsonProperty("type") Type type,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.number = number;
+        this.type = type;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record numbered {@code number} of {@code person} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(long number, int index, Person person) {
+        return new JsonAdaptedJournalRecord(number, Type.ADD, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record numbered {@code number} of the person at {@code index} being replaced by {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(long number, int index, Person person) {
+        return new JsonAdaptedJournalRecord(number, Type.SET, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record numbered {@code number} of the person at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(long number, int index) {
+        return new JsonAdaptedJournalRecord(number, Type.REMOVE, index, null);
+    }
+
+    /**
+     * Returns a record numbered {@code number} of every person being removed.
+     */
+    public static JsonAdaptedJournalRecord clear(long number) {
+        return new JsonAdaptedJournalRecord(number, Type.CLEAR, null, null);
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * Makes the change in this record to {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this record, or if its index is
+     *     out of bounds for {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        if (type == Type.CLEAR) {
+            persons.clear();
+            return;
+        }
+
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        int maxIndex = type == Type.ADD ? persons.size() : persons.size() - 1;
+        if (index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index, persons.size()));
+        }
+
+        if (type == Type.REMOVE) {
+            persons.remove((int) index);
+            return;
+        }
+
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        Person modelPerson = person.toModelType();
+        if (type == Type.ADD) {
+            persons.add(index, modelPerson);
+        } else {
+            persons.set(index, modelPerson);
+        }
+    }
+}
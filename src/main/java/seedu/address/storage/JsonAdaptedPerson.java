@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -16,6 +20,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -24,6 +29,16 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    /**
+     * Version of the data constraints checked by {@link #toModelType(ValueInterner, List)}. A file marked as validated
+     * by another version is validated again, so this must be increased whenever a constraint on a person's fields is
+     * tightened.
+     */
+    static final int VALIDATION_VERSION = 1;
+
+    private static final int VALUE_END = 0;
+    private static final int PERSON_END = 1;
+
     private final String name;
     private final String phone;
     private final String email;
@@ -60,50 +75,132 @@ class JsonAdaptedPerson {
     }
 
     /**
-     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, without interning
+     * its fields.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tagged) {
-            personTags.add(tag.toModelType());
+        List<String> violations = new ArrayList<>();
+        Person person = toModelType(ValueInterner.DISABLED, violations);
+        if (person == null) {
+            throw new IllegalValueException(violations.get(0));
         }
+        return person;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, checking every
+     * field instead of stopping at the first invalid one.
+     * Each value is validated once, by the constructor of its model type, and interned by {@code valueInterner}.
+     *
+     * @param violations the message of every data constraint violated in the adapted person is added to this list.
+     * @return the person, or null if any data constraint is violated.
+     */
+    Person toModelType(ValueInterner valueInterner, List<String> violations) {
+        int initialViolationCount = violations.size();
 
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            if (getTagName(tag) == null) {
+                violations.add(String.format(MISSING_FIELD_MESSAGE_FORMAT, Tag.class.getSimpleName()));
+                continue;
+            }
+            try {
+                modelTags.add(tag.toModelType());
+            } catch (IllegalValueException ive) {
+                violations.add(ive.getMessage());
+            }
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+
+        final Name modelName = toField(name, Name.class, value -> valueInterner.intern(new Name(value)), violations);
+        final Phone modelPhone =
+                toField(phone, Phone.class, value -> valueInterner.intern(new Phone(value)), violations);
+        final Email modelEmail =
+                toField(email, Email.class, value -> valueInterner.intern(new Email(value)), violations);
+        final Address modelAddress =
+                toField(address, Address.class, value -> valueInterner.intern(new Address(value)), violations);
+
+        if (violations.size() > initialViolationCount) {
+            return null;
         }
-        final Name modelName = new Name(name);
+        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+    }
 
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object without validating
+     * its fields, which must be known to be valid already, e.g. as they were written by this application. The fields
+     * are interned by {@code valueInterner}.
+     * A person with a missing field or tag name is converted by {@link #toModelType(ValueInterner, List)} instead.
+     *
+     * @param violations the message of every data constraint violated in the adapted person is added to this list.
+     * @return the person, or null if any data constraint is violated.
+     */
+    Person toTrustedModelType(ValueInterner valueInterner, List<String> violations) {
+        if (name == null || phone == null || email == null || address == null
+                || tagged.stream().anyMatch(tag -> getTagName(tag) == null)) {
+            return toModelType(valueInterner, violations);
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(Tag.ofValidated(tag.getTagName()));
         }
-        final Phone modelPhone = new Phone(phone);
+        return new Person(valueInterner.intern(Name.ofValidated(name)), valueInterner.intern(Phone.ofValidated(phone)),
+                valueInterner.intern(Email.ofValidated(email)), valueInterner.intern(Address.ofValidated(address)),
+                modelTags);
+    }
 
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
+    /**
+     * Adds the values of this person to {@code checksum}, in the order in which they are written.
+     */
+    void updateChecksum(Checksum checksum) {
+        updateChecksum(checksum, name);
+        updateChecksum(checksum, phone);
+        updateChecksum(checksum, email);
+        updateChecksum(checksum, address);
+        for (JsonAdaptedTag tag : tagged) {
+            updateChecksum(checksum, getTagName(tag));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        checksum.update(PERSON_END);
+    }
+
+    /**
+     * Returns the name of {@code tag}, or null if the tag or its name is missing.
+     */
+    private static String getTagName(JsonAdaptedTag tag) {
+        return tag == null ? null : tag.getTagName();
+    }
+
+    /**
+     * Adds {@code value}, which may be null, to {@code checksum}, followed by a separator.
+     */
+    private static void updateChecksum(Checksum checksum, String value) {
+        if (value != null) {
+            byte[] bytes = value.getBytes(UTF_8);
+            checksum.update(bytes, 0, bytes.length);
         }
-        final Email modelEmail = new Email(email);
+        checksum.update(VALUE_END);
+    }
 
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
+    /**
+     * Converts {@code value} into a field of type {@code fieldType} with {@code constructor}, which validates it.
+     *
+     * @return the field, or null if {@code value} is missing or invalid, in which case the reason is added to
+     *     {@code violations}.
+     */
+    private static <T> T toField(String value, Class<T> fieldType, Function<String, T> constructor,
+            List<String> violations) {
+        if (value == null) {
+            violations.add(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldType.getSimpleName()));
+            return null;
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            violations.add(iae.getMessage());
+            return null;
         }
-        final Address modelAddress = new Address(address);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
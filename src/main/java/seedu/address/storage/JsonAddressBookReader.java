@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book in the json format of {@link JsonSerializableAddressBook} one person at a time.
+ *
+ * The text of the file is never held in memory all at once. Each person is converted into the model's
+ * {@code Person} as soon as it has been parsed, unless the file is marked by {@link JsonAddressBookWriter} as
+ * validated by the current data constraints. The persons of such a file are converted without validating their fields
+ * once their checksum has been found to match the one in the file. If it does not, as the file was modified by hand
+ * or by another application, every field is validated instead.
+ *
+ * The number of the last journal record that the file includes, if it is the snapshot of a
+ * {@link JournalAddressBookStorage}, is read along with the persons.
+ */
+class JsonAddressBookReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookReader() {} // prevents instantiation
+
+    /**
+     * Returns the address book in {@code filePath}, or {@code Optional.empty()} if the file is not found.
+     * The persons are converted as set by {@code settings}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the persons of the file.
+     */
+    static Optional<AddressBook> read(Path filePath, StorageSettings settings)
+            throws DataConversionException, IllegalValueException {
+        return readSnapshot(filePath, settings).map(Snapshot::getAddressBook);
+    }
+
+    /**
+     * Returns the address book in {@code filePath} together with the number of the last journal record that it
+     * includes, or {@code Optional.empty()} if the file is not found.
+     * The persons are converted as set by {@code settings}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the persons of the file.
+     */
+    static Optional<Snapshot> readSnapshot(Path filePath, StorageSettings settings)
+            throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(settings);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ParsedFile parsedFile = parse(filePath, settings);
+        if (parsedFile.decoder.isTrusted() && !parsedFile.decoder.hasExpectedChecksum()) {
+            logger.info("Json file " + filePath + " was modified after it was validated, validating it again");
+        }
+        return Optional.of(new Snapshot(parsedFile.decoder.toAddressBook(), parsedFile.lastRecordNumber));
+    }
+
+    /**
+     * Parses the file at {@code filePath}, decoding its persons with a decoder that is trusted if the file is marked
+     * as validated by the current data constraints.
+     */
+    private static ParsedFile parse(Path filePath, StorageSettings settings) throws DataConversionException {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            return parse(parser, settings);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Passes each person in the address book object that {@code parser} is at the start of to a new decoder, which
+     * is trusted if the validation marker and checksum precede the persons, and is created by {@code settings}.
+     * The last record number is read wherever it is, and other fields are skipped.
+     */
+    private static ParsedFile parse(JsonParser parser, StorageSettings settings) throws IOException {
+        PersonListDecoder decoder = settings.createDecoder();
+        Integer validatedBy = null;
+        Long checksum = null;
+        OptionalLong lastRecordNumber = OptionalLong.empty();
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (JsonAddressBookWriter.VALIDATED_BY_FIELD.equals(fieldName) && valueToken.isNumeric()) {
+                validatedBy = parser.getIntValue();
+                continue;
+            }
+            if (JsonAddressBookWriter.CHECKSUM_FIELD.equals(fieldName) && valueToken.isNumeric()) {
+                checksum = parser.getLongValue();
+                continue;
+            }
+            if (JsonAddressBookWriter.LAST_RECORD_NUMBER_FIELD.equals(fieldName) && valueToken.isNumeric()) {
+                lastRecordNumber = OptionalLong.of(parser.getLongValue());
+                continue;
+            }
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            boolean isTrusted = checksum != null
+                    && Integer.valueOf(JsonAdaptedPerson.VALIDATION_VERSION).equals(validatedBy);
+            decoder = isTrusted ? settings.createTrustedDecoder(checksum) : settings.createDecoder();
+            expect(parser, valueToken, JsonToken.START_ARRAY);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+                decoder.add(parser.readValueAs(JsonAdaptedPerson.class));
+            }
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+        return new ParsedFile(decoder, lastRecordNumber);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * An address book read from a json file, and the number of the last journal record that it includes, which is
+     * absent unless the file was written as the snapshot of a {@link JournalAddressBookStorage}.
+     */
+    static class Snapshot {
+        private final AddressBook addressBook;
+        private final OptionalLong lastRecordNumber;
+
+        Snapshot(AddressBook addressBook, OptionalLong lastRecordNumber) {
+            this.addressBook = addressBook;
+            this.lastRecordNumber = lastRecordNumber;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        OptionalLong getLastRecordNumber() {
+            return lastRecordNumber;
+        }
+    }
+
+    /**
+     * The decoder of the persons in a json file, and the other fields of the file that are not skipped.
+     */
+    private static class ParsedFile {
+        private final PersonListDecoder decoder;
+        private final OptionalLong lastRecordNumber;
+
+        ParsedFile(PersonListDecoder decoder, OptionalLong lastRecordNumber) {
+            this.decoder = decoder;
+            this.lastRecordNumber = lastRecordNumber;
+        }
+    }
+}
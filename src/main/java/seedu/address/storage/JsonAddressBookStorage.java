@@ -6,12 +6,12 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Checksum;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,15 +22,35 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final StorageSettings settings;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, StorageSettings.DEFAULT);
+    }
+
+    /**
+     * @param isCompact true if the file should be written without line breaks or indentation.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, StorageSettings settings) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.settings = requireNonNull(settings);
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    StorageSettings getSettings() {
+        return settings;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.JSON;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -45,14 +65,12 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<AddressBook> addressBook = JsonAddressBookReader.read(filePath, settings);
+            if (addressBook.isPresent()) {
+                logger.info(settings.getValueInterner().getReport());
+            }
+            return addressBook.map(ReadOnlyAddressBook.class::cast);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +84,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced only once the address book has been completely written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +92,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.write(addressBook.getPersonList(), filePath, isCompact, settings.isSyncEnabled());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also updates {@code fileChecksum} with every
+     * byte written to the file.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, Checksum fileChecksum) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        JsonAddressBookWriter.write(addressBook.getPersonList(), filePath, isCompact, settings.isSyncEnabled(),
+                fileChecksum);
     }
 
 }
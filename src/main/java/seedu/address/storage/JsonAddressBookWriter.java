@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the json format of {@link JsonSerializableAddressBook} one person at a time.
+ *
+ * Each person is written as soon as it has been converted, so neither the Jackson-friendly persons nor the text of
+ * the file are ever held in memory all at once. The address book is written to a temporary file, which is forced to
+ * the disk and then moved over the target file, so the target file always holds either the old or the new address
+ * book, even if the application crashes while saving.
+ *
+ * The persons are preceded by the version of the data constraints they satisfy and a checksum of their values, so
+ * that {@link JsonAddressBookReader} can skip validating them again if the file has not been modified since.
+ */
+class JsonAddressBookWriter {
+
+    static final String VALIDATED_BY_FIELD = "validatedBy";
+    static final String CHECKSUM_FIELD = "checksum";
+    static final String LAST_RECORD_NUMBER_FIELD = "lastRecordNumber";
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code persons} to {@code filePath}, replacing the file only once they are completely written.
+     *
+     * @param isCompact true if the file should be written without line breaks or indentation.
+     * @param isSynced true if the file should be forced to the disk before this returns.
+     */
+    static void write(List<Person> persons, Path filePath, boolean isCompact, boolean isSynced) throws IOException {
+        Path tempFile = writeTempFile(persons, OptionalLong.empty(), filePath, isCompact, isSynced);
+        FileUtil.moveAtomically(tempFile, filePath, isSynced);
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} as by {@link #write(List, Path, boolean, boolean)}, updating
+     * {@code fileChecksum} with every byte written to the file, so that the file need not be read back to compute
+     * its checksum.
+     */
+    static void write(List<Person> persons, Path filePath, boolean isCompact, boolean isSynced,
+            Checksum fileChecksum) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(fileChecksum);
+        Path tempFile = FileUtil.writeToTempFile(filePath, out ->
+                write(persons, OptionalLong.empty(), new CheckedOutputStream(out, fileChecksum), isCompact),
+                isSynced);
+        FileUtil.moveAtomically(tempFile, filePath, isSynced);
+    }
+
+    /**
+     * Writes {@code persons} to a new temporary file next to {@code filePath}, followed by
+     * {@code lastRecordNumber} if it is present, as read by {@link JsonAddressBookReader#readSnapshot}.
+     *
+     * @param isCompact true if the file should be written without line breaks or indentation.
+     * @param isSynced true if the file should be forced to the disk before this returns.
+     * @return the path of the temporary file.
+     */
+    static Path writeTempFile(List<Person> persons, OptionalLong lastRecordNumber, Path filePath, boolean isCompact,
+            boolean isSynced) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(lastRecordNumber);
+        return FileUtil.writeToTempFile(filePath, out -> write(persons, lastRecordNumber, out, isCompact), isSynced);
+    }
+
+    private static void write(List<Person> persons, OptionalLong lastRecordNumber, OutputStream out,
+            boolean isCompact) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeNumberField(VALIDATED_BY_FIELD, JsonAdaptedPerson.VALIDATION_VERSION);
+            generator.writeNumberField(CHECKSUM_FIELD, getChecksum(persons));
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (lastRecordNumber.isPresent()) {
+                generator.writeNumberField(LAST_RECORD_NUMBER_FIELD, lastRecordNumber.getAsLong());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the checksum of the values of {@code persons}, as computed by {@link JsonAdaptedPerson#updateChecksum}.
+     */
+    static long getChecksum(List<Person> persons) {
+        CRC32C checksum = new CRC32C();
+        for (Person person : persons) {
+            new JsonAdaptedPerson(person).updateChecksum(checksum);
+        }
+        return checksum.getValue();
+    }
+}
@@ -9,9 +9,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -40,21 +40,22 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts this address book into the model's {@code AddressBook} object, as set by the default
+     * {@code StorageSettings}.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws InvalidRecordsException if there were any data constraints violated in the persons, listing every
+     *     violation in every person.
+     * @throws IllegalValueException if there were any other data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        return addressBook;
+        PersonListDecoder decoder = StorageSettings.DEFAULT.createDecoder();
+        persons.forEach(decoder::add);
+        return decoder.toAddressBook();
     }
 
 }
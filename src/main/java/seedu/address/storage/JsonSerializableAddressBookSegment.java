@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One segment of an address book stored by {@link ShardedAddressBookStorage}, serializable to JSON format.
+ * Each person is stored with a sequence number, which orders it among the persons of all segments.
+ */
+class JsonSerializableAddressBookSegment extends JsonSerializableAddressBook {
+
+    private final List<Long> sequenceNumbers = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBookSegment} with the given persons and their sequence numbers.
+     */
+    @JsonCreator
+    public JsonSerializableAddressBookSegment(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("sequenceNumbers") List<Long> sequenceNumbers) {
+        super(persons);
+        if (sequenceNumbers != null) {
+            this.sequenceNumbers.addAll(sequenceNumbers);
+        }
+    }
+
+    public List<Long> getSequenceNumbers() {
+        return sequenceNumbers;
+    }
+}
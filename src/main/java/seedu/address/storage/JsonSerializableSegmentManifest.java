@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of an address book stored by {@link ShardedAddressBookStorage}, serializable to JSON format.
+ * It lists the file of each segment, and the generation of the most recently written segment files.
+ */
+class JsonSerializableSegmentManifest {
+
+    /** The first field of every manifest, by which a manifest is told apart from an address book. */
+    static final String SEGMENTS_FIELD = "segments";
+
+    private final List<String> segments = new ArrayList<>();
+    private final long generation;
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given segment file names and generation.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty(SEGMENTS_FIELD) List<String> segments,
+            @JsonProperty("generation") long generation) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        this.generation = generation;
+    }
+
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only address book backed by a binary address book file that is mapped into memory.
+ *
+ * Opening the address book reads only the footer of the file. Each person is decoded from the file when it is first
+ * accessed, e.g. when it is shown in a list or tested by a predicate, and only the most recently accessed persons are
+ * kept, so that browsing an archive of millions of persons needs neither the time to decode them all nor the memory
+ * to hold them all.
+ *
+ * The persons are not checked against each other, as a file written by {@link BinaryAddressBookStorage} never holds
+ * duplicate persons. The file is expected to be replaced only by moving another file over it, as
+ * {@link BinaryAddressBookStorage} does, which leaves this address book reading the file it opened.
+ *
+ * The application opens an archive this way when it is started with {@code --archive=FILE}, and browses it through a
+ * {@link seedu.address.model.ReadOnlyModelManager}, which does not copy it.
+ *
+ * {@link BinaryAddressBookStorage} also reads through this class, passing each record to a decoder in turn, so that
+ * loading a binary address book never holds the whole file on the heap.
+ * The address book must be closed once it is no longer needed, to release the file.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook, Closeable {
+
+    static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private final Path filePath;
+    private final MappedFile file;
+    private final long indexOffset;
+    private final int stringCount;
+    private final int personCount;
+    private final Map<Integer, Person> cache;
+    private final ObservableList<Person> persons = new PersonList();
+
+    private MappedAddressBook(Path filePath, MappedFile file, int cacheCapacity) throws IOException {
+        this.filePath = filePath;
+        this.file = file;
+        this.cache = new LinkedHashMap<Integer, Person>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+
+        if (!hasOffsetTable(file)) {
+            throw new IOException("Binary address book has no offset table; save it again to add one");
+        }
+        try {
+            long footerOffset = file.size() - BinaryAddressBookCodec.FOOTER_BYTES;
+            indexOffset = file.getLong(footerOffset);
+            stringCount = file.getInt(footerOffset + Long.BYTES);
+            personCount = file.getInt(footerOffset + Long.BYTES + Integer.BYTES);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary address book is truncated or corrupt", e);
+        }
+        long indexLength = ((long) stringCount + personCount) * BinaryAddressBookCodec.OFFSET_BYTES;
+        if (indexOffset < 0 || stringCount < 0 || personCount < 0
+                || indexOffset + indexLength + BinaryAddressBookCodec.FOOTER_BYTES != file.size()) {
+            throw new IOException("Binary address book has a corrupt offset table");
+        }
+    }
+
+    /**
+     * Returns true if the binary address book mapped into {@code file} has the offset table that it needs to be
+     * opened as a {@code MappedAddressBook}.
+     *
+     * @throws IOException if {@code file} does not hold a binary address book of a supported version.
+     */
+    static boolean hasOffsetTable(MappedFile file) throws IOException {
+        try {
+            int headerLength = (int) Math.min(file.size(), BinaryAddressBookCodec.MAGIC.length
+                    + BinaryAddressBookCodec.MAX_VARINT_BYTES);
+            return BinaryAddressBookCodec.readVersion(file.slice(0, headerLength))
+                    >= BinaryAddressBookCodec.INDEXED_VERSION;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary address book is truncated or corrupt", e);
+        }
+    }
+
+    /**
+     * Opens the binary address book at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, or is not a binary address book with an offset table.
+     */
+    public static MappedAddressBook open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        MappedFile file = MappedFile.map(filePath);
+        try {
+            return open(filePath, file, DEFAULT_CACHE_CAPACITY);
+        } catch (IOException ioe) {
+            file.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Opens the binary address book at {@code filePath}, which has been mapped into {@code file}, keeping at most
+     * {@code cacheCapacity} decoded persons.
+     */
+    static MappedAddressBook open(Path filePath, MappedFile file, int cacheCapacity) throws IOException {
+        return new MappedAddressBook(filePath, file, cacheCapacity);
+    }
+
+    /**
+     * Returns the list of persons, which are decoded as they are accessed.
+     * Accessing a person that cannot be decoded from the file, or after the address book is closed, throws an
+     * {@code IllegalStateException}.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the address book never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the address book never changes, so there is nothing to listen to
+    }
+
+    /**
+     * Passes every person in the file, in order, to {@code decoder}, which validates them, without keeping them.
+     *
+     * @throws IOException if the record of a person cannot be read from the file.
+     */
+    void decodeAll(PersonListDecoder decoder) throws IOException {
+        synchronized (cache) {
+            for (int i = 0; i < personCount; i++) {
+                decoder.add(readRecord(i));
+            }
+        }
+    }
+
+    /**
+     * Releases the file, after which no more persons can be decoded from it.
+     */
+    @Override
+    public void close() {
+        synchronized (cache) {
+            cache.clear();
+            file.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return personCount + " persons";
+    }
+
+    /**
+     * Returns the person at {@code index}, decoding it from the file unless it is in the cache.
+     */
+    private Person getPerson(int index) {
+        Objects.checkIndex(index, personCount);
+        synchronized (cache) {
+            Person person = cache.get(index);
+            if (person == null) {
+                person = decodePerson(index);
+                cache.put(index, person);
+            }
+            return person;
+        }
+    }
+
+    /**
+     * Decodes the person at {@code index} from the file.
+     */
+    private Person decodePerson(int index) {
+        try {
+            return readRecord(index).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("Person " + index + " in " + filePath + " cannot be read: " + e, e);
+        }
+    }
+
+    /**
+     * Reads the record of the person at {@code index} from the file, without checking its data constraints.
+     */
+    private JsonAdaptedPerson readRecord(int index) throws IOException {
+        try {
+            long recordOffset = file.getLong(indexOffset
+                    + ((long) stringCount + index) * BinaryAddressBookCodec.OFFSET_BYTES);
+            return BinaryAddressBookCodec.decodePerson(readLengthPrefixed(recordOffset), this::getString);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Record " + index + " is truncated or corrupt", e);
+        }
+    }
+
+    /**
+     * Returns the string at {@code index} in the string table of the file.
+     */
+    private String getString(int index) throws IOException {
+        if (index < 0 || index >= stringCount) {
+            throw new IOException("Binary address book refers to a missing string " + index);
+        }
+        ByteBuffer bytes = readLengthPrefixed(file.getLong(indexOffset
+                + (long) index * BinaryAddressBookCodec.OFFSET_BYTES));
+        return BinaryAddressBookCodec.readUtf8(bytes, bytes.remaining());
+    }
+
+    /**
+     * Returns the bytes at {@code offset} that are prefixed with their length.
+     */
+    private ByteBuffer readLengthPrefixed(long offset) throws IOException {
+        ByteBuffer prefix = file.slice(offset,
+                (int) Math.min(BinaryAddressBookCodec.MAX_VARINT_BYTES, file.size() - offset));
+        int length = BinaryAddressBookCodec.readVarint(prefix);
+        return file.slice(offset + prefix.position(), length);
+    }
+
+    /**
+     * An unmodifiable list of the persons in the file, which never changes.
+     */
+    private class PersonList extends ObservableListBase<Person> {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return personCount;
+        }
+    }
+}
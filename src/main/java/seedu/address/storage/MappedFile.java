@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A read-only file mapped into memory, whose bytes are read by the operating system only when they are accessed.
+ *
+ * A single mapping holds at most 2 GiB, so the file is mapped as a series of regions. Each region also maps the
+ * first bytes of the next one, so that any slice no longer than that overlap lies within a single region and can be
+ * returned without copying. Longer slices that cross into the next region are copied.
+ *
+ * The mappings are released when the file is closed. Until then, the file stays open, which on Windows prevents it
+ * from being replaced or deleted. The file must not be closed while another thread is reading it, as reading a
+ * released mapping crashes the JVM.
+ */
+class MappedFile implements Closeable {
+
+    static final long DEFAULT_REGION_SIZE = 1L << 30;
+    static final int DEFAULT_REGION_OVERLAP = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedFile.class);
+
+    /** Releases a mapping immediately, or null if the JVM does not allow it. */
+    private static final Unmapper UNMAPPER = Unmapper.create();
+
+    /** The mapped regions, or null once the file is closed. */
+    private ByteBuffer[] regions;
+    private final long size;
+    private final long regionSize;
+
+    private MappedFile(ByteBuffer[] regions, long size, long regionSize) {
+        this.regions = regions;
+        this.size = size;
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory.
+     * The file should not be modified while it is mapped, but it may be replaced by moving another file over it.
+     */
+    static MappedFile map(Path filePath) throws IOException {
+        return map(filePath, DEFAULT_REGION_SIZE, DEFAULT_REGION_OVERLAP);
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory in regions of {@code regionSize} bytes, each of which also maps
+     * the first {@code regionOverlap} bytes of the next region.
+     */
+    static MappedFile map(Path filePath, long regionSize, int regionOverlap) throws IOException {
+        if (regionSize <= 0 || regionOverlap < 0 || regionSize + regionOverlap > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid region size " + regionSize + " or overlap " + regionOverlap);
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] regions = new ByteBuffer[(int) ((size + regionSize - 1) / regionSize)];
+            for (int i = 0; i < regions.length; i++) {
+                long start = i * regionSize;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(regionSize + regionOverlap, size - start));
+            }
+            return new MappedFile(regions, size, regionSize);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@code length} bytes of the file starting at {@code offset}, with the position of the returned
+     * buffer at the first of them and its limit after the last.
+     *
+     * @throws IndexOutOfBoundsException if the bytes are not all within the file.
+     * @throws IllegalStateException if the file is closed.
+     */
+    ByteBuffer slice(long offset, int length) {
+        if (regions == null) {
+            throw new IllegalStateException("Mapped file is closed");
+        }
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("Bytes " + offset + " to " + (offset + length)
+                    + " are outside a file of " + size + " bytes");
+        }
+        if (length == 0) {
+            return ByteBuffer.allocate(0);
+        }
+
+        ByteBuffer region = getRegionAt(offset);
+        if (length <= region.remaining()) {
+            ByteBuffer slice = region.slice();
+            slice.limit(length);
+            return slice;
+        }
+
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            ByteBuffer next = getRegionAt(offset + copied);
+            int count = Math.min(length - copied, next.remaining());
+            next.get(bytes, copied, count);
+            copied += count;
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Releases the mappings of the file, after which its bytes can no longer be read.
+     * If the JVM does not allow mappings to be released, they are released once they are garbage collected instead.
+     */
+    @Override
+    public void close() {
+        if (regions == null) {
+            return;
+        }
+
+        ByteBuffer[] mappedRegions = regions;
+        regions = null;
+        if (UNMAPPER == null) {
+            return;
+        }
+        for (ByteBuffer region : mappedRegions) {
+            UNMAPPER.unmap(region);
+        }
+    }
+
+    /**
+     * Returns the 8-byte big-endian number at {@code offset}.
+     */
+    long getLong(long offset) {
+        return slice(offset, Long.BYTES).getLong();
+    }
+
+    /**
+     * Returns the 4-byte big-endian number at {@code offset}.
+     */
+    int getInt(long offset) {
+        return slice(offset, Integer.BYTES).getInt();
+    }
+
+    /**
+     * Returns a view of the region holding {@code offset}, with its position at {@code offset}.
+     */
+    private ByteBuffer getRegionAt(long offset) {
+        ByteBuffer region = regions[(int) (offset / regionSize)].duplicate();
+        region.position((int) (offset % regionSize));
+        return region;
+    }
+
+    /**
+     * Releases mappings through {@code sun.misc.Unsafe#invokeCleaner}, which is the only way to do so before they are
+     * garbage collected.
+     */
+    private static class Unmapper {
+        private final Object unsafe;
+        private final Method invokeCleaner;
+
+        private Unmapper(Object unsafe, Method invokeCleaner) {
+            this.unsafe = unsafe;
+            this.invokeCleaner = invokeCleaner;
+        }
+
+        /**
+         * Returns an unmapper, or null if {@code sun.misc.Unsafe} is not available.
+         */
+        static Unmapper create() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return new Unmapper(theUnsafe.get(null), unsafeClass.getMethod("invokeCleaner", ByteBuffer.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.fine("Mapped files will be released only when garbage collected: " + e);
+                return null;
+            }
+        }
+
+        void unmap(ByteBuffer region) {
+            try {
+                invokeCleaner.invoke(unsafe, region);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.fine("Mapped file will be released only when garbage collected: " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.commons.exceptions.InvalidRecordsException.RecordError;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.ValueInterner;
+
+/**
+ * Converts Jackson-friendly persons, one at a time and in order, into the model's {@code AddressBook}.
+ * Every data constraint violated by any person is collected, and reported together once all persons are converted.
+ *
+ * In parallel mode, persons are collected into chunks, and each full chunk is converted by a task of the common
+ * {@code ForkJoinPool} while the persons after it are still being read. The chunks are joined in order, so the
+ * persons, the violations reported and the check for duplicate persons are the same as in sequential mode.
+ *
+ * In trusted mode, a checksum of the raw values of the persons is computed as they are added, and each person is
+ * converted without validating its fields as it is added, so that no more than the converted persons is held. If the
+ * checksum turns out to be the one that the decoder was created with, they are the persons that were validated
+ * before; otherwise the fields of every converted person are validated once all persons are added, and the persons
+ * and violations are the same as in untrusted mode. Values that fail validation are not kept, as both the
+ * {@code ValueInterner} and the tag registry hold values weakly.
+ *
+ * The fields of the persons are interned by the {@code ValueInterner} that the decoder was created with.
+ */
+public class PersonListDecoder {
+
+    /** Number of persons converted together by one task in parallel mode. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final ValueInterner valueInterner;
+    private final boolean isParallel;
+    private final boolean isTrusted;
+    private final long expectedChecksum;
+    private final CRC32C checksum = new CRC32C();
+    private final Chunk decodedPersons = new Chunk();
+    private final List<String> violations = new ArrayList<>();
+    private int recordCount;
+
+    /** Persons not yet converted, and the tasks converting earlier chunks, in order. Used in parallel mode only. */
+    private List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+    private final List<ForkJoinTask<Chunk>> chunkTasks = new ArrayList<>();
+
+    /**
+     * Creates a decoder that validates the fields of every person.
+     *
+     * @param isParallel true if persons should be converted on multiple threads.
+     */
+    PersonListDecoder(ValueInterner valueInterner, boolean isParallel) {
+        this.valueInterner = requireNonNull(valueInterner);
+        this.isParallel = isParallel;
+        this.isTrusted = false;
+        this.expectedChecksum = 0;
+    }
+
+    /**
+     * Creates a decoder in trusted mode, for persons whose fields were validated when they had the checksum
+     * {@code expectedChecksum}.
+     *
+     * @param isParallel true if persons should be converted on multiple threads.
+     */
+    PersonListDecoder(ValueInterner valueInterner, boolean isParallel, long expectedChecksum) {
+        this.valueInterner = requireNonNull(valueInterner);
+        this.isParallel = isParallel;
+        this.isTrusted = true;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    /**
+     * Converts {@code jsonPerson}, the next person in the list.
+     */
+    void add(JsonAdaptedPerson jsonPerson) {
+        recordCount++;
+        if (isTrusted) {
+            jsonPerson.updateChecksum(checksum);
+        }
+        if (!isParallel) {
+            decodedPersons.add(jsonPerson, recordCount, isTrusted, valueInterner, violations);
+            return;
+        }
+
+        pendingPersons.add(jsonPerson);
+        if (pendingPersons.size() == CHUNK_SIZE) {
+            List<JsonAdaptedPerson> chunk = pendingPersons;
+            int firstRecordNumber = recordCount - chunk.size() + 1;
+            chunkTasks.add(ForkJoinPool.commonPool().submit(
+                    () -> Chunk.decode(chunk, firstRecordNumber, isTrusted, valueInterner)));
+            pendingPersons = new ArrayList<>();
+        }
+    }
+
+    boolean isTrusted() {
+        return isTrusted;
+    }
+
+    /**
+     * Returns true if the persons added so far have the checksum that this decoder was created with, as computed
+     * by {@link JsonAdaptedPerson#updateChecksum}, in which case they are the persons that were validated.
+     * Used in trusted mode only.
+     */
+    boolean hasExpectedChecksum() {
+        return checksum.getValue() == expectedChecksum;
+    }
+
+    /**
+     * Returns an address book of the persons added so far. In trusted mode, their fields are validated unless they
+     * have the expected checksum.
+     *
+     * @throws InvalidRecordsException if there were any data constraints violated in the persons, listing every
+     *     violation in every person.
+     * @throws IllegalValueException if there were any other data constraints violated.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        Chunk decoded = decodedPersons;
+        if (isParallel) {
+            // the last chunk is converted by this thread, which would otherwise only wait for the others
+            Chunk lastChunk = Chunk.decode(pendingPersons, recordCount - pendingPersons.size() + 1, isTrusted,
+                    valueInterner);
+            decoded = new Chunk();
+            for (ForkJoinTask<Chunk> chunkTask : chunkTasks) {
+                decoded.addAll(chunkTask.join());
+            }
+            decoded.addAll(lastChunk);
+        }
+        if (isTrusted && !hasExpectedChecksum()) {
+            decoded = validate(decoded);
+        }
+
+        List<Person> persons = decoded.persons;
+        List<RecordError> errors = decoded.errors;
+
+        if (!errors.isEmpty()) {
+            throw new InvalidRecordsException(errors);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the persons and violations of {@code decoded}, which holds every person converted in trusted mode, as
+     * they would have been converted in untrusted mode.
+     */
+    private Chunk validate(Chunk decoded) {
+        // a record is converted into either a person or at least one violation, so the persons are the records
+        // without a violation, in order
+        Chunk validated = new Chunk();
+        int personIndex = 0;
+        int errorIndex = 0;
+        for (int recordNumber = 1; recordNumber <= recordCount; recordNumber++) {
+            if (errorIndex < decoded.errors.size() && decoded.errors.get(errorIndex).recordNumber == recordNumber) {
+                while (errorIndex < decoded.errors.size()
+                        && decoded.errors.get(errorIndex).recordNumber == recordNumber) {
+                    validated.errors.add(decoded.errors.get(errorIndex++));
+                }
+                continue;
+            }
+            JsonAdaptedPerson jsonPerson = new JsonAdaptedPerson(decoded.persons.get(personIndex++));
+            validated.add(jsonPerson, recordNumber, false, valueInterner, violations);
+        }
+        return validated;
+    }
+
+    /**
+     * The persons converted from consecutive Jackson-friendly persons, and the data constraints they violated.
+     */
+    private static class Chunk {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<RecordError> errors = new ArrayList<>();
+
+        /**
+         * Converts {@code jsonPersons}, the first of which is record number {@code firstRecordNumber}, interning their
+         * fields with {@code valueInterner}.
+         *
+         * @param isTrusted true if the fields of the persons should not be validated.
+         */
+        static Chunk decode(List<JsonAdaptedPerson> jsonPersons, int firstRecordNumber, boolean isTrusted,
+                ValueInterner valueInterner) {
+            Chunk chunk = new Chunk();
+            List<String> violations = new ArrayList<>();
+            for (int i = 0; i < jsonPersons.size(); i++) {
+                chunk.add(jsonPersons.get(i), firstRecordNumber + i, isTrusted, valueInterner, violations);
+            }
+            return chunk;
+        }
+
+        /**
+         * Converts {@code jsonPerson}, which is record number {@code recordNumber}, interning its fields with
+         * {@code valueInterner}.
+         *
+         * @param isTrusted true if the fields of the person should not be validated.
+         * @param violations an empty list to collect violations in, which is left empty.
+         */
+        void add(JsonAdaptedPerson jsonPerson, int recordNumber, boolean isTrusted, ValueInterner valueInterner,
+                List<String> violations) {
+            Person person = isTrusted
+                    ? jsonPerson.toTrustedModelType(valueInterner, violations)
+                    : jsonPerson.toModelType(valueInterner, violations);
+            for (String violation : violations) {
+                errors.add(new RecordError(recordNumber, violation));
+            }
+            violations.clear();
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+
+        void addAll(Chunk chunk) {
+            persons.addAll(chunk.persons);
+            errors.addAll(chunk.errors);
+        }
+    }
+}
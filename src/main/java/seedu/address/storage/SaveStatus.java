@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * How far the address book saved in storage is behind the address book in memory.
+ * Guarantees: immutable.
+ */
+public class SaveStatus {
+
+    private final int unsavedChangeCount;
+    private final IOException failure;
+
+    /**
+     * @param unsavedChangeCount number of changes to the address book that have not been saved yet.
+     * @param failure the failure of the most recent attempt to save the address book, or null if it succeeded.
+     */
+    public SaveStatus(int unsavedChangeCount, IOException failure) {
+        this.unsavedChangeCount = unsavedChangeCount;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the status of an address book whose every change has been saved.
+     */
+    public static SaveStatus saved() {
+        return new SaveStatus(0, null);
+    }
+
+    public int getUnsavedChangeCount() {
+        return unsavedChangeCount;
+    }
+
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveStatus // instanceof handles nulls
+                && unsavedChangeCount == ((SaveStatus) other).unsavedChangeCount
+                && Objects.equals(failure, ((SaveStatus) other).failure)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(unsavedChangeCount, failure);
+    }
+
+    @Override
+    public String toString() {
+        return unsavedChangeCount + " unsaved change(s)" + (failure == null ? "" : ", last save failed: " + failure);
+    }
+}
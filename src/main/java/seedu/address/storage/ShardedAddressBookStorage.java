@@ -0,0 +1,556 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a number of json segment files, listed by a json manifest.
+ *
+ * Each person is stored in the segment chosen by the hash of its name, which is part of its identity, so a person
+ * stays in its segment when it is edited, unless it is renamed. Saving rewrites only the segments whose persons
+ * changed since the last save, as told by the {@link ChangeLog} of the address book if it knows the changes, or else
+ * by comparing the persons with those saved. Loading reads the segments in parallel.
+ *
+ * Each person is stored with a sequence number that orders it among the persons of all segments. Changed segments
+ * are written to new files, and the manifest is replaced to list them only once they are completely written, so the
+ * files are consistent at every point of a save. Segment files that the manifest no longer lists are then deleted.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SEGMENT_FILE_INFIX = ".segment-";
+    /** The gap left between the sequence numbers of consecutive persons, so that persons can be inserted later. */
+    private static final long SEQUENCE_NUMBER_GAP = 1 << 16;
+
+    private final Path filePath;
+    private final int segmentCount;
+    private final StorageSettings settings;
+
+    /** The segments as saved in the files at {@code filePath}, or null if they are not known. */
+    private SegmentLayout savedLayout;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_COUNT, StorageSettings.DEFAULT);
+    }
+
+    public ShardedAddressBookStorage(Path filePath, int segmentCount) {
+        this(filePath, segmentCount, StorageSettings.DEFAULT);
+    }
+
+    /**
+     * @param segmentCount number of segments that address books are saved in. An address book read with a different
+     *     number of segments is converted when it is next saved.
+     */
+    public ShardedAddressBookStorage(Path filePath, int segmentCount, StorageSettings settings) {
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("Segment count must be positive");
+        }
+        this.filePath = requireNonNull(filePath);
+        this.segmentCount = segmentCount;
+        this.settings = requireNonNull(settings);
+    }
+
+    /**
+     * Returns true if {@code filePath} holds the manifest of a sharded address book, judging by its first field.
+     */
+    static boolean isManifest(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonSerializableSegmentManifest.SEGMENTS_FIELD.equals(parser.getCurrentName());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.SHARDED;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest, whose segment files are next to it. Cannot be null.
+     * @throws DataConversionException if the manifest or any segment is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            if (Files.exists(filePath) && !isManifest(filePath)) {
+                throw new IOException(filePath + " is not the manifest of a sharded address book");
+            }
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+        Optional<JsonSerializableSegmentManifest> manifest = JsonUtil.readJsonFile(
+                filePath, JsonSerializableSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> segmentFiles = manifest.get().getSegments();
+        List<JsonSerializableAddressBookSegment> segments = readSegments(filePath, segmentFiles);
+        List<SequencedPerson> sequencedPersons = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            List<JsonAdaptedPerson> persons = segments.get(i).getPersons();
+            List<Long> sequenceNumbers = segments.get(i).getSequenceNumbers();
+            if (persons.size() != sequenceNumbers.size() || sequenceNumbers.contains(null)) {
+                throw new DataConversionException(new IOException("Segment " + segmentFiles.get(i)
+                        + " does not have a sequence number for each of its " + persons.size() + " persons"));
+            }
+            for (int j = 0; j < persons.size(); j++) {
+                sequencedPersons.add(new SequencedPerson(sequenceNumbers.get(j), i, persons.get(j)));
+            }
+        }
+        sequencedPersons.sort(Comparator.comparingLong(sequencedPerson -> sequencedPerson.sequenceNumber));
+
+        AddressBook addressBook;
+        try {
+            PersonListDecoder decoder = settings.createDecoder();
+            for (int i = 0; i < sequencedPersons.size(); i++) {
+                if (i > 0 && sequencedPersons.get(i).sequenceNumber == sequencedPersons.get(i - 1).sequenceNumber) {
+                    throw new IOException("Sequence number " + sequencedPersons.get(i).sequenceNumber
+                            + " is used by more than one person");
+                }
+                decoder.add(sequencedPersons.get(i).person);
+            }
+            addressBook = decoder.toAddressBook();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedLayout = createLayout(addressBook.getPersonList(), sequencedPersons, segmentFiles,
+                    manifest.get().getGeneration());
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the segment files named {@code segmentFiles}, which are next to {@code filePath}, in parallel.
+     */
+    private static List<JsonSerializableAddressBookSegment> readSegments(Path filePath, List<String> segmentFiles)
+            throws DataConversionException {
+        List<Callable<JsonSerializableAddressBookSegment>> tasks = new ArrayList<>();
+        for (String segmentFile : segmentFiles) {
+            Path segmentPath = filePath.resolveSibling(segmentFile);
+            tasks.add(() -> JsonUtil.readJsonFile(segmentPath, JsonSerializableAddressBookSegment.class)
+                    .orElseThrow(() -> new DataConversionException(new NoSuchFileException(segmentPath.toString()))));
+        }
+
+        List<JsonSerializableAddressBookSegment> segments = new ArrayList<>();
+        try {
+            for (Future<JsonSerializableAddressBookSegment> segment : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                segments.add(segment.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) e.getCause();
+            }
+            throw new DataConversionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataConversionException(e);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the layout of {@code persons}, which were read in the order of {@code sequencedPersons} from
+     * {@code segmentFiles}. If they are not in the segments that this storage would put them in, the layout names no
+     * files, so that every segment is rewritten when the address book is next saved.
+     */
+    private SegmentLayout createLayout(List<Person> persons, List<SequencedPerson> sequencedPersons,
+            List<String> segmentFiles, long generation) {
+        SegmentLayout layout = new SegmentLayout(segmentCount, generation);
+        boolean isLayoutMatching = segmentFiles.size() == segmentCount;
+        for (int i = 0; i < persons.size(); i++) {
+            SequencedPerson sequencedPerson = sequencedPersons.get(i);
+            int segment = layout.put(persons.get(i), sequencedPerson.sequenceNumber);
+            isLayoutMatching &= segment == sequencedPerson.segment;
+        }
+        if (isLayoutMatching) {
+            segmentFiles.toArray(layout.segmentFiles);
+        }
+        return layout;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments that changed since the last save are written, unless {@code filePath} is not the file of
+     * this storage, in which case every segment is written.
+     *
+     * @param filePath location of the manifest, whose segment files are put next to it. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        SegmentLayout layout = isOwnFile && savedLayout != null
+                ? savedLayout
+                : new SegmentLayout(segmentCount, readGeneration(filePath));
+        savedLayout = null; // not known until the save succeeds
+
+        BitSet changedSegments = update(layout, addressBook.getPersonList(), addressBook.getChangeLog());
+        for (int i = 0; i < segmentCount; i++) {
+            if (layout.segmentFiles[i] == null) {
+                changedSegments.set(i);
+            }
+        }
+        if (!changedSegments.isEmpty()) {
+            writeSegments(layout, changedSegments, filePath);
+        }
+
+        if (isOwnFile) {
+            savedLayout = layout;
+        }
+    }
+
+    /**
+     * Returns the generation in the manifest at {@code filePath}, or 0 if there is none, so that new segment files
+     * do not replace those listed by the manifest.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            if (Files.exists(filePath) && isManifest(filePath)) {
+                return JsonUtil.readJsonFile(filePath, JsonSerializableSegmentManifest.class)
+                        .map(JsonSerializableSegmentManifest::getGeneration).orElse(0L);
+            }
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Cannot read the manifest " + filePath + ": " + e);
+        }
+        return 0;
+    }
+
+    /**
+     * Updates {@code layout} to hold {@code persons}.
+     *
+     * @param changeLog the log of the address book of {@code persons}, used to find the changed persons without
+     *     comparing every person, if it knows the changes made since {@code layout} was saved.
+     * @return the segments that changed.
+     */
+    private BitSet update(SegmentLayout layout, List<Person> persons, Optional<ChangeLog> changeLog) {
+        Optional<List<ChangeLog.Change>> changes = changeLog
+                .filter(log -> log.getLogId() == layout.logId)
+                .flatMap(log -> log.getChangesSince(layout.modificationCount));
+
+        BitSet changedSegments = changes.isPresent()
+                ? applyChanges(layout, changes.get())
+                : compare(layout, persons);
+        if (changedSegments == null || layout.sequenceNumbers.size() != persons.size()) {
+            changedSegments = renumber(layout, persons);
+        }
+
+        layout.logId = changeLog.map(ChangeLog::getLogId).orElse(SegmentLayout.NO_LOG_ID);
+        layout.modificationCount = changeLog.map(ChangeLog::getModificationCount).orElse(0L);
+        return changedSegments;
+    }
+
+    /**
+     * Makes {@code changes} to {@code layout}. Each replacing person takes the sequence number of the person it
+     * replaces, and each appended person is numbered after every other person.
+     *
+     * @return the segments that changed, or null if {@code changes} remove a person that {@code layout} does not
+     *     hold, in which case {@code layout} has to be renumbered.
+     */
+    private static BitSet applyChanges(SegmentLayout layout, List<ChangeLog.Change> changes) {
+        BitSet changedSegments = new BitSet();
+        for (ChangeLog.Change change : changes) {
+            Long sequenceNumber = null;
+            if (change.getRemoved().isPresent()) {
+                Person removed = change.getRemoved().get();
+                sequenceNumber = layout.sequenceNumbers.get(removed);
+                if (sequenceNumber == null) {
+                    return null;
+                }
+                changedSegments.set(layout.remove(removed));
+            }
+            if (change.getAdded().isPresent()) {
+                long addedNumber = sequenceNumber != null
+                        ? sequenceNumber
+                        : layout.getLastSequenceNumber() + SEQUENCE_NUMBER_GAP;
+                changedSegments.set(layout.put(change.getAdded().get(), addedNumber));
+            }
+        }
+        return changedSegments;
+    }
+
+    /**
+     * Finds the segments of {@code layout} whose persons differ from those in {@code persons}, and updates them.
+     * The persons of changed segments are numbered between the persons of unchanged segments around them.
+     *
+     * @return the segments that changed, or null if the persons of unchanged segments are not in order, or there
+     *     are no sequence numbers left between them, in which case {@code layout} has to be renumbered.
+     */
+    private static BitSet compare(SegmentLayout layout, List<Person> persons) {
+        int[] personSegments = new int[persons.size()];
+        List<List<Person>> segmentPersons = new ArrayList<>();
+        for (int i = 0; i < layout.getSegmentCount(); i++) {
+            segmentPersons.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            personSegments[i] = layout.getSegmentOf(persons.get(i));
+            segmentPersons.get(personSegments[i]).add(persons.get(i));
+        }
+
+        BitSet changedSegments = new BitSet();
+        for (int i = 0; i < layout.getSegmentCount(); i++) {
+            if (!segmentPersons.get(i).equals(new ArrayList<>(layout.segments.get(i).values()))) {
+                changedSegments.set(i);
+            }
+        }
+        if (changedSegments.isEmpty()) {
+            return changedSegments;
+        }
+
+        long[] sequenceNumbers = new long[persons.size()];
+        long previous = 0;
+        int start = 0;
+        while (start < persons.size()) {
+            if (!changedSegments.get(personSegments[start])) {
+                sequenceNumbers[start] = layout.sequenceNumbers.get(persons.get(start));
+                if (sequenceNumbers[start] <= previous) {
+                    return null;
+                }
+                previous = sequenceNumbers[start];
+                start++;
+                continue;
+            }
+
+            int end = start;
+            while (end < persons.size() && changedSegments.get(personSegments[end])) {
+                end++;
+            }
+            long next = end < persons.size()
+                    ? layout.sequenceNumbers.get(persons.get(end))
+                    : previous + (end - start + 1) * SEQUENCE_NUMBER_GAP;
+            long step = (next - previous) / (end - start + 1);
+            if (step <= 0) {
+                return null;
+            }
+            for (int i = start; i < end; i++) {
+                sequenceNumbers[i] = previous + step * (i - start + 1);
+            }
+            previous = sequenceNumbers[end - 1];
+            start = end;
+        }
+
+        for (int segment = changedSegments.nextSetBit(0); segment >= 0;
+                segment = changedSegments.nextSetBit(segment + 1)) {
+            for (Person person : new ArrayList<>(layout.segments.get(segment).values())) {
+                layout.remove(person);
+            }
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (changedSegments.get(personSegments[i])) {
+                layout.put(persons.get(i), sequenceNumbers[i]);
+            }
+        }
+        return changedSegments;
+    }
+
+    /**
+     * Numbers {@code persons} afresh in {@code layout}.
+     *
+     * @return every segment, as all of them changed.
+     */
+    private static BitSet renumber(SegmentLayout layout, List<Person> persons) {
+        layout.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            layout.put(persons.get(i), (i + 1) * SEQUENCE_NUMBER_GAP);
+        }
+        BitSet changedSegments = new BitSet();
+        changedSegments.set(0, layout.getSegmentCount());
+        return changedSegments;
+    }
+
+    /**
+     * Writes the {@code changedSegments} of {@code layout} to new files next to {@code filePath}, then replaces the
+     * manifest at {@code filePath} to list them, and deletes the segment files that it no longer lists.
+     */
+    private void writeSegments(SegmentLayout layout, BitSet changedSegments, Path filePath) throws IOException {
+        long generation = layout.generation + 1;
+        String[] segmentFiles = layout.segmentFiles.clone();
+        for (int segment = changedSegments.nextSetBit(0); segment >= 0;
+                segment = changedSegments.nextSetBit(segment + 1)) {
+            segmentFiles[segment] = filePath.getFileName() + SEGMENT_FILE_INFIX + segment + "-" + generation;
+            Path segmentPath = filePath.resolveSibling(segmentFiles[segment]);
+            JsonSerializableAddressBookSegment json = toJsonSegment(layout.segments.get(segment));
+            Path tempFile = FileUtil.writeToTempFile(segmentPath,
+                    out -> out.write(JsonUtil.toJsonString(json).getBytes(UTF_8)), settings.isSyncEnabled());
+            FileUtil.moveAtomically(tempFile, segmentPath, settings.isSyncEnabled());
+        }
+
+        JsonSerializableSegmentManifest manifest =
+                new JsonSerializableSegmentManifest(Arrays.asList(segmentFiles), generation);
+        FileUtil.writeAtomically(filePath, out -> out.write(JsonUtil.toJsonString(manifest).getBytes(UTF_8)),
+                settings.isSyncEnabled());
+        layout.segmentFiles = segmentFiles;
+        layout.generation = generation;
+
+        deleteUnlistedSegments(filePath, segmentFiles);
+    }
+
+    private static JsonSerializableAddressBookSegment toJsonSegment(TreeMap<Long, Person> segment) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(segment.size());
+        segment.values().forEach(person -> persons.add(new JsonAdaptedPerson(person)));
+        return new JsonSerializableAddressBookSegment(persons, new ArrayList<>(segment.keySet()));
+    }
+
+    /**
+     * Deletes the segment files next to the manifest at {@code filePath} other than {@code segmentFiles}, such as
+     * those replaced by the last save or left behind by a save that did not complete.
+     */
+    private static void deleteUnlistedSegments(Path filePath, String[] segmentFiles) {
+        Set<String> listedFiles = new HashSet<>(Arrays.asList(segmentFiles));
+        String prefix = filePath.getFileName() + SEGMENT_FILE_INFIX;
+        Path directory = filePath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, path ->
+                path.getFileName().toString().startsWith(prefix)
+                && !listedFiles.contains(path.getFileName().toString()))) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Cannot delete old segment files of " + filePath + ": " + ioe);
+        }
+    }
+
+    /**
+     * A person read from a segment, with its sequence number and the index of the segment.
+     */
+    private static class SequencedPerson {
+        private final long sequenceNumber;
+        private final int segment;
+        private final JsonAdaptedPerson person;
+
+        SequencedPerson(long sequenceNumber, int segment, JsonAdaptedPerson person) {
+            this.sequenceNumber = sequenceNumber;
+            this.segment = segment;
+            this.person = person;
+        }
+    }
+
+    /**
+     * The persons of each segment as saved, by sequence number, and the files they are saved in.
+     */
+    private static class SegmentLayout {
+        private static final long NO_LOG_ID = 0;
+
+        private final List<TreeMap<Long, Person>> segments = new ArrayList<>();
+        private final Map<Person, Long> sequenceNumbers = new HashMap<>();
+        /** The file of each segment, or null if the segment has not been saved. */
+        private String[] segmentFiles;
+        private long generation;
+        /** The change log of the address book saved, and its modification count when saved. */
+        private long logId = NO_LOG_ID;
+        private long modificationCount;
+
+        SegmentLayout(int segmentCount, long generation) {
+            for (int i = 0; i < segmentCount; i++) {
+                segments.add(new TreeMap<>());
+            }
+            this.segmentFiles = new String[segmentCount];
+            this.generation = generation;
+        }
+
+        int getSegmentCount() {
+            return segments.size();
+        }
+
+        /**
+         * Returns the segment that {@code person} belongs in, chosen by the hash of its name so that it is the same
+         * on every run of the application.
+         */
+        int getSegmentOf(Person person) {
+            return Math.floorMod(person.getName().fullName.hashCode(), segments.size());
+        }
+
+        long getLastSequenceNumber() {
+            return segments.stream().filter(segment -> !segment.isEmpty()).mapToLong(TreeMap::lastKey).max()
+                    .orElse(0);
+        }
+
+        /**
+         * Adds {@code person} with {@code sequenceNumber}, and returns its segment.
+         */
+        int put(Person person, long sequenceNumber) {
+            int segment = getSegmentOf(person);
+            segments.get(segment).put(sequenceNumber, person);
+            sequenceNumbers.put(person, sequenceNumber);
+            return segment;
+        }
+
+        /**
+         * Removes {@code person}, which must be in this layout, and returns its segment.
+         */
+        int remove(Person person) {
+            int segment = getSegmentOf(person);
+            segments.get(segment).remove(sequenceNumbers.remove(person));
+            return segment;
+        }
+
+        void clear() {
+            segments.forEach(TreeMap::clear);
+            sequenceNumbers.clear();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,19 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Registers {@code listener} to be told the new {@code SaveStatus} of the address book whenever it changes.
+     * The listener may be called from a background thread.
+     */
+    void addSaveStatusListener(Consumer<SaveStatus> listener);
+
+    /**
+     * Blocks until every save of the address book requested so far has been written, together with anything that
+     * the address book storage defers until the application exits.
+     *
+     * @throws IOException if the last attempt to write the address book failed.
+     */
+    @Override
+    void flushAddressBook() throws IOException;
+
 }
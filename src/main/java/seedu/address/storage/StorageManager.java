@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,12 +22,22 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final StorageSettings settings;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, StorageSettings.DEFAULT);
+    }
+
+    /**
+     * @param settings the settings of the storages created to read address books in other formats.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            StorageSettings settings) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.settings = requireNonNull(settings);
     }
 
     // ================ UserPrefs methods ==============================
@@ -52,14 +65,30 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookStorage.getAddressBookFormat();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Reads the address book in {@code filePath} in whichever format it is stored in, as detected from the file.
+     * An address book in a format other than {@link #getAddressBookFormat()} is converted to that format when it is
+     * next saved.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        AddressBookFormat format = AddressBookFormat.detect(filePath);
+        if (format != addressBookStorage.getAddressBookFormat()) {
+            logger.info("Reading " + format + " address book from " + filePath + ", which will be saved as "
+                    + addressBookStorage.getAddressBookFormat());
+            return format.createStorage(filePath, settings).readAddressBook(filePath);
+        }
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -74,4 +103,21 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Does nothing, as the address book is written before {@code saveAddressBook} returns, which reports a failure by
+     * throwing it. The save status of an address book written in the background is kept by
+     * {@link WriteBehindStorage}.
+     */
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {}
+
+    /**
+     * Flushes the address book storage, as the address book itself is written before {@code saveAddressBook}
+     * returns.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
 }
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.util.ValueInterner;
+
+/**
+ * Settings of how an address book storage reads and writes its files, which it is given when it is created.
+ */
+public class StorageSettings {
+
+    /** Settings that force every write to the disk, and convert persons on one thread without interning them. */
+    public static final StorageSettings DEFAULT = new StorageSettings(true, false, ValueInterner.DISABLED);
+
+    private final boolean isSyncEnabled;
+    private final boolean isParallelLoadEnabled;
+    private final ValueInterner valueInterner;
+
+    /**
+     * @param isSyncEnabled true if written files should be forced to the disk before the write returns. Writes are
+     *     faster without it, but a power failure may then lose the most recent of them.
+     * @param isParallelLoadEnabled true if persons should be converted on multiple threads when they are read.
+     * @param valueInterner the interner of the fields of the persons that are read.
+     */
+    public StorageSettings(boolean isSyncEnabled, boolean isParallelLoadEnabled, ValueInterner valueInterner) {
+        this.isSyncEnabled = isSyncEnabled;
+        this.isParallelLoadEnabled = isParallelLoadEnabled;
+        this.valueInterner = requireNonNull(valueInterner);
+    }
+
+    public boolean isSyncEnabled() {
+        return isSyncEnabled;
+    }
+
+    public boolean isParallelLoadEnabled() {
+        return isParallelLoadEnabled;
+    }
+
+    public ValueInterner getValueInterner() {
+        return valueInterner;
+    }
+
+    /**
+     * Returns a new decoder that validates every person, as set by these settings.
+     */
+    PersonListDecoder createDecoder() {
+        return new PersonListDecoder(valueInterner, isParallelLoadEnabled);
+    }
+
+    /**
+     * Returns a new decoder in trusted mode, for persons that were validated when they had the checksum
+     * {@code expectedChecksum}, as set by these settings.
+     */
+    PersonListDecoder createTrustedDecoder(long expectedChecksum) {
+        return new PersonListDecoder(valueInterner, isParallelLoadEnabled, expectedChecksum);
+    }
+}
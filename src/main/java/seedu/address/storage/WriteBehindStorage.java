@@ -0,0 +1,377 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DurabilityLevel;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book on a background thread, so that saving does not hold up the caller.
+ *
+ * Saving takes a snapshot of the address book and returns at once. If more snapshots are taken while a write is in
+ * progress, only the most recent of them is written next, so a burst of changes costs a single extra write.
+ * A failed write is reported to the save status listeners at once, and thrown by the next call to save the address
+ * book. Its snapshot stays pending, unless a newer snapshot replaces it, so that it is written again by the next save,
+ * read or flush instead of being lost. All other operations are passed straight to the wrapped {@code Storage}.
+ *
+ * When a snapshot is written depends on the {@link DurabilityLevel}: at once, before the save returns, once enough
+ * saves have been made or enough time has passed since the first of them, or only when the address book is flushed.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    /** Number of times that flushing writes a pending snapshot before it gives up. */
+    static final int FLUSH_ATTEMPT_COUNT = 3;
+
+    private final Storage storage;
+    private final DurabilityLevel durabilityLevel;
+    private final long groupCommitIntervalMillis;
+    private final int groupCommitCommandLimit;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Consumer<SaveStatus>> saveStatusListeners = new CopyOnWriteArrayList<>();
+
+    // The following fields are guarded by this object's monitor.
+    private ReadOnlyAddressBook pendingSnapshot;
+    private Path pendingFilePath;
+    private boolean isWriteScheduled;
+    private boolean isDelayedWriteScheduled;
+    /** Number of saves made since the writer last took a snapshot. */
+    private int pendingSaveCount;
+    /** Number of snapshots taken, and the number of the most recent snapshot written. */
+    private long snapshotCount;
+    private long writtenSnapshotCount;
+    /** Failure of the most recent write, which has not been thrown to a caller yet. */
+    private IOException unreportedFailure;
+    private IOException lastFailure;
+
+    public WriteBehindStorage(Storage storage) {
+        this(storage, DurabilityLevel.NONE, 0, 1);
+    }
+
+    /**
+     * Creates a storage that writes the address book to {@code storage} as required by {@code durabilityLevel}.
+     * With {@link DurabilityLevel#GROUP_COMMIT}, a save waits at most {@code groupCommitIntervalMillis}, or until
+     * {@code groupCommitCommandLimit} saves are waiting, before it is written.
+     */
+    public WriteBehindStorage(Storage storage, DurabilityLevel durabilityLevel, long groupCommitIntervalMillis,
+            int groupCommitCommandLimit) {
+        this.storage = requireNonNull(storage);
+        this.durabilityLevel = requireNonNull(durabilityLevel);
+        this.groupCommitIntervalMillis = groupCommitIntervalMillis;
+        this.groupCommitCommandLimit = groupCommitCommandLimit;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return storage.getAddressBookFormat();
+    }
+
+    /**
+     * Reads the address book once every pending save has been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book once every pending save has been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        awaitPendingWrites();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath} and returns at once, unless the
+     * durability level is {@link DurabilityLevel#FSYNC_PER_COMMIT}, in which case it returns once the snapshot has
+     * been written.
+     *
+     * @throws IOException if the previous write failed. The snapshot is scheduled regardless. With
+     *         {@link DurabilityLevel#FSYNC_PER_COMMIT}, if this snapshot could not be written instead.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+
+        IOException failureToReport;
+        SaveStatus status;
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            pendingFilePath = filePath;
+            snapshotCount++;
+            pendingSaveCount++;
+            scheduleWrite();
+            failureToReport = unreportedFailure;
+            unreportedFailure = null;
+            status = getSaveStatus();
+        }
+        notifySaveStatusListeners(status);
+
+        if (durabilityLevel == DurabilityLevel.FSYNC_PER_COMMIT) {
+            awaitSavedAddressBook();
+            return;
+        }
+        if (failureToReport != null) {
+            throw failureToReport;
+        }
+    }
+
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {
+        saveStatusListeners.add(requireNonNull(listener));
+    }
+
+    /**
+     * Blocks until every pending save has been written, writing a snapshot whose write fails up to
+     * {@value #FLUSH_ATTEMPT_COUNT} times, then flushes the wrapped {@code Storage}.
+     *
+     * @throws IOException if the last attempt to write failed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        for (int attempt = 1; attempt < FLUSH_ATTEMPT_COUNT; attempt++) {
+            try {
+                awaitSavedAddressBook();
+                break;
+            } catch (IOException ioe) {
+                logger.info("Writing the address book again, attempt " + (attempt + 1) + " of " + FLUSH_ATTEMPT_COUNT);
+            }
+        }
+        awaitSavedAddressBook();
+        storage.flushAddressBook();
+    }
+
+    /**
+     * Blocks until every pending save has been written.
+     *
+     * @throws IOException if the last write failed.
+     */
+    private void awaitSavedAddressBook() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            awaitPendingWrites();
+            failure = lastFailure;
+            unreportedFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the current save status.
+     */
+    public synchronized SaveStatus getSaveStatus() {
+        return new SaveStatus((int) (snapshotCount - writtenSnapshotCount), lastFailure);
+    }
+
+    /**
+     * Schedules the pending snapshot to be written as required by the durability level.
+     */
+    private synchronized void scheduleWrite() {
+        switch (durabilityLevel) {
+        case GROUP_COMMIT:
+            if (pendingSaveCount >= groupCommitCommandLimit) {
+                startWrite();
+            } else if (!isDelayedWriteScheduled) {
+                isDelayedWriteScheduled = true;
+                writer.schedule(this::startDelayedWrite, groupCommitIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+            break;
+        case ON_EXIT:
+            break; // written when flushed
+        default:
+            startWrite();
+        }
+    }
+
+    private synchronized void startDelayedWrite() {
+        isDelayedWriteScheduled = false;
+        startWrite();
+    }
+
+    /**
+     * Starts writing the pending snapshot on the writer thread, unless it is already being written.
+     */
+    private synchronized void startWrite() {
+        if (pendingSnapshot != null && !isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot and waits until the writer thread is idle.
+     */
+    private synchronized void awaitPendingWrites() {
+        startWrite();
+        boolean isInterrupted = false;
+        while (isWriteScheduled) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the most recent snapshot until no snapshot is pending, or until a write fails and no newer snapshot has
+     * been taken meanwhile, in which case the failed snapshot is pending again. Runs on the writer thread.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            Path filePath;
+            long snapshotNumber;
+            synchronized (this) {
+                if (pendingSnapshot == null) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                filePath = pendingFilePath;
+                snapshotNumber = snapshotCount;
+                pendingSnapshot = null;
+                pendingSaveCount = 0;
+            }
+
+            IOException failure = null;
+            try {
+                storage.saveAddressBook(snapshot, filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save address book to " + filePath + ": " + StringUtil.getDetails(e));
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            }
+
+            SaveStatus status;
+            boolean isStopped = false;
+            synchronized (this) {
+                if (failure == null) {
+                    writtenSnapshotCount = snapshotNumber;
+                } else if (pendingSnapshot == null) {
+                    // kept for the next attempt, which is left to the next save, read or flush so as not to spin
+                    pendingSnapshot = snapshot;
+                    pendingFilePath = filePath;
+                    isStopped = true;
+                }
+                lastFailure = failure;
+                unreportedFailure = failure;
+                status = getSaveStatus();
+            }
+            notifySaveStatusListeners(status);
+            if (isStopped) {
+                synchronized (this) {
+                    // the write is only done once its failure is reported, unless a newer snapshot is to be written
+                    if (pendingSnapshot == snapshot) {
+                        isWriteScheduled = false;
+                        notifyAll();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void notifySaveStatusListeners(SaveStatus status) {
+        saveStatusListeners.forEach(listener -> listener.accept(status));
+    }
+
+    /**
+     * An immutable copy of the persons in an address book, taken with {@link ReadOnlyAddressBook#getPersonListSnapshot}
+     * so that an address book that keeps its persons in a persistent list shares them instead of copying them.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final Optional<ChangeLog> changeLog;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(addressBook.getPersonListSnapshot()));
+            changeLog = addressBook.getChangeLog().map(ChangeLog::new);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public Optional<ChangeLog> getChangeLog() {
+            return changeLog;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // a snapshot never changes, so there is nothing to listen to
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // a snapshot never changes, so there is nothing to listen to
+        }
+    }
+}
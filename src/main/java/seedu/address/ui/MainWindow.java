@@ -23,6 +23,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading address book...";
+    public static final String MESSAGE_LOADED = "Loaded %d persons.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -120,14 +123,31 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        if (logic.loadingProperty().get()) {
+            showLoadingStatus();
+        }
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getAddressBook());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.addSaveStatusListener(statusBarFooter::showSaveStatus);
 
         CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows that the address book is loading, until it has loaded.
+     */
+    private void showLoadingStatus() {
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        logic.loadingProperty().addListener((observable, wasLoading, isLoading) -> {
+            if (!isLoading) {
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADED,
+                        logic.getAddressBook().getPersonList().size()));
+            }
+        });
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
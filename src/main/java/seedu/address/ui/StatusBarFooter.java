@@ -5,10 +5,12 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.SaveStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,6 +19,9 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SAVE_STATUS_SAVED = "All changes saved";
+    public static final String SAVE_STATUS_PENDING = "Saving %d change(s)...";
+    public static final String SAVE_STATUS_FAILED = "Failed to save %d change(s): %s";
 
     /**
      * Used to generate time stamps.
@@ -33,6 +38,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label syncStatus;
     @FXML
+    private Label saveStatus;
+    @FXML
     private Label saveLocationStatus;
 
 
@@ -40,6 +47,7 @@ public class StatusBarFooter extends UiPart<Region> {
         super(FXML);
         addressBook.addListener(observable -> updateSyncStatus());
         syncStatus.setText(SYNC_STATUS_INITIAL);
+        saveStatus.setText(SAVE_STATUS_SAVED);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
@@ -57,6 +65,26 @@ public class StatusBarFooter extends UiPart<Region> {
         return clock;
     }
 
+    /**
+     * Shows how far the saved address book is behind the one in memory, as described by {@code status}.
+     * May be called from any thread.
+     */
+    public void showSaveStatus(SaveStatus status) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> showSaveStatus(status));
+            return;
+        }
+
+        if (status.getFailure().isPresent()) {
+            saveStatus.setText(String.format(SAVE_STATUS_FAILED, status.getUnsavedChangeCount(),
+                    status.getFailure().get().getMessage()));
+        } else if (status.getUnsavedChangeCount() > 0) {
+            saveStatus.setText(String.format(SAVE_STATUS_PENDING, status.getUnsavedChangeCount()));
+        } else {
+            saveStatus.setText(SAVE_STATUS_SAVED);
+        }
+    }
+
     /**
      * Updates "last updated" status to the current time.
      */
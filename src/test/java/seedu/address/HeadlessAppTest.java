@@ -0,0 +1,104 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class HeadlessAppTest {
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final Person AMY_WITHOUT_TAGS = new PersonBuilder(AMY).withTags().build();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager();
+    private Logic logic;
+    private ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Before
+    public void setUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void run_validCommands_feedbackWrittenToOutput() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ADD_COMMAND + "\n" + ClearCommand.COMMAND_WORD + "\n"));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY_WITHOUT_TAGS) + System.lineSeparator()
+                + ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString(UTF_8.name()));
+        assertEquals("", err.toString(UTF_8.name()));
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void run_blankAndCommentLines_skipped() throws Exception {
+        String input = "\n   \n" + RunCommand.COMMENT_PREFIX + " adds Amy\n" + ADD_COMMAND;
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(input));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY_WITHOUT_TAGS) + System.lineSeparator(),
+                out.toString(UTF_8.name()));
+        assertEquals(1, logic.getHistory().size());
+    }
+
+    @Test
+    public void run_invalidCommand_errorWrittenAndLaterCommandsRun() throws Exception {
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run("\nuicfhmowqewca\n" + ADD_COMMAND));
+        assertEquals(String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), err.toString(UTF_8.name()));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY_WITHOUT_TAGS) + System.lineSeparator(),
+                out.toString(UTF_8.name()));
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(AMY_WITHOUT_TAGS);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ExitCommand.COMMAND_WORD + "\n" + ADD_COMMAND));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                out.toString(UTF_8.name()));
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    /**
+     * Runs the commands in {@code input} with {@code logic} and returns the exit status.
+     */
+    private int run(String input) throws Exception {
+        return HeadlessApp.run(logic, new BufferedReader(new StringReader(input)),
+                new PrintStream(out, false, UTF_8.name()), new PrintStream(err, false, UTF_8.name()));
+    }
+}
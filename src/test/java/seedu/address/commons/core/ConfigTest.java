@@ -15,7 +15,18 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Value interning enabled : false\n"
+                + "Journal storage enabled : false\n"
+                + "Compact json enabled : false\n"
+                + "Binary storage enabled : false\n"
+                + "Sharded storage enabled : false\n"
+                + "Parallel load enabled : false\n"
+                + "Progressive startup enabled : false\n"
+                + "Warm start cache enabled : false\n"
+                + "Durability level : FSYNC_PER_COMMIT\n"
+                + "Group commit interval (ms) : 1000\n"
+                + "Group commit command limit : 100";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -1,14 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +37,50 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFiles() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        File[] files = file.getParent().toFile().listFiles();
+        assertEquals(1, files.length);
+    }
+
+    @Test
+    public void writeToFile_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+            return; // permissions are not supported by this file system
+        }
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+        FileUtil.writeToFile(file, "new content");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_newFile_defaultPermissions() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        Path otherFile = testFolder.getRoot().toPath().resolve("other.txt");
+        FileUtil.writeToFile(file, "content");
+        Files.createFile(otherFile);
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+            return; // permissions are not supported by this file system
+        }
+
+        // the same permissions as any other new file, rather than those of a temporary file
+        assertEquals(Files.getPosixFilePermissions(otherFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeAtomically_notSynced_contentWritten() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("content".getBytes(UTF_8)), false);
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String> interner = new WeakInterner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("value");
+        String second = new String("value");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachValue() {
+        String first = new String("first");
+        String second = new String("second");
+
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_equalValuesOnManyThreads_returnsOneInstance() throws Exception {
+        int threadCount = 8;
+        int valueCount = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    List<String> interned = new ArrayList<>();
+                    for (int j = 0; j < valueCount; j++) {
+                        interned.add(interner.intern(new String("value" + j)));
+                    }
+                    return interned;
+                }));
+            }
+
+            List<String> expected = results.get(0).get();
+            for (Future<List<String>> result : results) {
+                List<String> interned = result.get();
+                for (int j = 0; j < valueCount; j++) {
+                    assertSame(expected.get(j), interned.get(j));
+                }
+            }
+            assertEquals(valueCount, interner.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class AddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    /** Runs tasks on the calling thread, recording the number of persons in the model after each task. */
+    private final Executor recordingExecutor = task -> {
+        task.run();
+        chunkSizes.add(model.getAddressBook().getPersonList().size());
+    };
+
+    @Test
+    public void load_typicalAddressBook_personsAddedInChunks() {
+        List<String> events = new ArrayList<>();
+        new AddressBookLoader(() -> getTypicalAddressBook(), model, recordingExecutor, 3)
+                .load(() -> events.add("loaded"));
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(1, events.size());
+        // 7 persons in chunks of 3, then the task that reports loading has finished
+        assertEquals(Arrays.asList(3, 6, 7, 7), chunkSizes);
+    }
+
+    @Test
+    public void load_emptyAddressBook_onlyOnLoadedRun() {
+        List<String> events = new ArrayList<>();
+        new AddressBookLoader(AddressBook::new, model, recordingExecutor).load(() -> events.add("loaded"));
+
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void load_readerFails_onLoadedStillRun() {
+        List<String> events = new ArrayList<>();
+        new AddressBookLoader(() -> {
+            throw new IllegalStateException("dummy failure");
+        }, model, recordingExecutor).load(() -> events.add("loaded"));
+
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void start_loadsOnBackgroundThread() throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        new AddressBookLoader(() -> getTypicalAddressBook(), model, Runnable::run).start(loaded::countDown);
+
+        assertTrue(loaded.await(10, TimeUnit.SECONDS));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+}
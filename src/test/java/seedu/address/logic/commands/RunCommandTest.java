@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandHistory history = new CommandHistory();
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.getRoot().toPath().resolve("script.txt");
+        Files.write(scriptPath, String.join("\n", lines).getBytes(UTF_8));
+        return scriptPath;
+    }
+
+    @Test
+    public void execute_validScript_changesCommittedOnce() throws Exception {
+        Path scriptPath = writeScript("# adds three persons", PersonUtil.getAddCommand(AMY), "",
+                "  " + PersonUtil.getAddCommand(BOB), PersonUtil.getAddCommand(HOON));
+        int[] notificationCount = new int[1];
+        model.getAddressBook().addListener(observable -> notificationCount[0]++);
+
+        CommandResult result = new RunCommand(scriptPath).execute(model, history);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, scriptPath), result.getFeedbackToUser());
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.addPerson(AMY);
+        expectedAddressBook.addPerson(BOB);
+        expectedAddressBook.addPerson(HOON);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertEquals(1, notificationCount[0]);
+
+        // a single undo reverts the whole script
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_failingLines_failuresReportedWithLineNumbers() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), "delete 100", "unknown", "undo",
+                PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = new RunCommand(scriptPath).execute(model, history);
+
+        String failures = String.join("\n", Arrays.asList(
+                String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX),
+                String.format(RunCommand.MESSAGE_LINE_FAILURE, 3, MESSAGE_UNKNOWN_COMMAND),
+                String.format(RunCommand.MESSAGE_LINE_FAILURE, 4, RunCommand.MESSAGE_NOT_IN_SCRIPT),
+                String.format(RunCommand.MESSAGE_LINE_FAILURE, 5, AddCommand.MESSAGE_DUPLICATE_PERSON)));
+        assertEquals(String.format(RunCommand.MESSAGE_FAILURES, 6, scriptPath, 4, failures),
+                result.getFeedbackToUser());
+
+        // the lines that succeeded are still run
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.addPerson(AMY);
+        expectedAddressBook.addPerson(BOB);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_noChanges_nothingCommitted() throws Exception {
+        Path scriptPath = writeScript("list", "find Alice");
+        new RunCommand(scriptPath).execute(model, history);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        new RunCommand(testFolder.getRoot().toPath().resolve("missing.txt")).execute(model, history);
+    }
+
+    @Test
+    public void execute_missingFile_batchEnded() throws Exception {
+        try {
+            new RunCommand(testFolder.getRoot().toPath().resolve("missing.txt")).execute(model, history);
+        } catch (CommandException ce) {
+            // expected
+        }
+        new AddCommand(AMY).execute(model, history);
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Paths.get("first.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(runFirstCommand.equals(new RunCommand(Paths.get("second.txt"))));
+    }
+}
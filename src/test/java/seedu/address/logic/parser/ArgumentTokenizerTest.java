@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesWithSameFirstCharacter() {
+        Prefix pDash = new Prefix("p-");
+        String argsString = "preamble p- pDash value p/pSlash value p- another pDash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pDash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, pDash, "pDash value", "another pDash value");
+    }
+
+    @Test
+    public void tokenize_prefixStartsWithOtherPrefix_longestPrefixMatched() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p// pSlashSlash value p/ pSlash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertArgumentPresent(argMultimap, pSlashSlash, "pSlashSlash value");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+    }
+
+    @Test
+    public void getAllValues_modified_argumentMultimapUnchanged() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/value", pSlash);
+        argMultimap.getAllValues(pSlash).add("another value");
+        assertArgumentPresent(argMultimap, pSlash, "value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.TagsMatchQueryPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        // missing operator
+        assertParseFailure(parser, "friends family", MESSAGE_INVALID_FORMAT);
+
+        // leading operator
+        assertParseFailure(parser, "and friends", MESSAGE_INVALID_FORMAT);
+
+        // trailing operator
+        assertParseFailure(parser, "friends or", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "friends and not", MESSAGE_INVALID_FORMAT);
+
+        // repeated operator
+        assertParseFailure(parser, "friends and or family", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "not not friends", MESSAGE_INVALID_FORMAT);
+
+        // invalid tag
+        assertParseFailure(parser, "friends and #family", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        // single tag
+        assertParseSuccess(parser, "friends", new FilterCommand(new TagsMatchQueryPredicate(
+                new TagQuery(Collections.singletonList(clause(tags("friends"), tags()))))));
+
+        // AND is applied before OR, operators are case insensitive
+        FilterCommand expectedCommand = new FilterCommand(new TagsMatchQueryPredicate(new TagQuery(Arrays.asList(
+                clause(tags("friends"), tags("colleagues")),
+                clause(tags(), tags("family")),
+                clause(tags("owesMoney", "family"), tags())))));
+        assertParseSuccess(parser, "friends AND NOT colleagues or not family Or owesMoney and family",
+                expectedCommand);
+
+        // multiple whitespaces between words
+        assertParseSuccess(parser, " \n friends \t and not \n colleagues or not family or owesMoney  and family \t",
+                expectedCommand);
+    }
+
+    private static TagQuery.Clause clause(Set<Tag> includedTags, Set<Tag> excludedTags) {
+        return new TagQuery.Clause(includedTags, excludedTags);
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        Arrays.stream(tagNames).map(Tag::new).forEach(tags::add);
+        return tags;
+    }
+
+}
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -62,6 +64,29 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void resetData_withAddressBook_notifiesListenersOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        addressBook.addListener(observable -> counter.set(counter.get() + 1));
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void resetData_withSelf_dataUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(addressBook);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void setPersons_withDuplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        thrown.expect(DuplicatePersonException.class);
+        addressBook.setPersons(Arrays.asList(ALICE, editedAlice));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -112,6 +137,39 @@ public class AddressBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void getChangeLog_personChanges_recordedInOrder() {
+        ChangeLog changeLog = addressBook.getChangeLog().get();
+        long modificationCount = changeLog.getModificationCount();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPersons(Arrays.asList(BENSON, CARL));
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        addressBook.removePerson(editedAlice);
+
+        List<ChangeLog.Change> expectedChanges = Arrays.asList(new ChangeLog.Change(0, null, BENSON),
+                new ChangeLog.Change(1, null, CARL), new ChangeLog.Change(2, null, ALICE),
+                new ChangeLog.Change(2, ALICE, editedAlice), new ChangeLog.Change(0, BENSON, null),
+                new ChangeLog.Change(1, editedAlice, null));
+        assertEquals(expectedChanges, changeLog.getChangesSince(modificationCount).get());
+    }
+
+    @Test
+    public void getChangeLog_bulkOrInsertedChanges_unknown() {
+        ChangeLog changeLog = addressBook.getChangeLog().get();
+        addressBook.addPerson(0, ALICE);
+        assertTrue(changeLog.getChangesSince(0).isPresent());
+
+        long modificationCount = changeLog.getModificationCount();
+        addressBook.resetData(getTypicalAddressBook());
+        assertFalse(changeLog.getChangesSince(modificationCount).isPresent());
+
+        modificationCount = changeLog.getModificationCount();
+        addressBook.addPerson(0, new PersonBuilder().withName("Zed").build());
+        assertFalse(changeLog.getChangesSince(modificationCount).isPresent());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
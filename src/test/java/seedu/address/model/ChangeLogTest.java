@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ChangeLogTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ChangeLog changeLog = new ChangeLog(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ChangeLog(0);
+    }
+
+    @Test
+    public void getChangesSince_currentCount_noChanges() {
+        assertEquals(Collections.emptyList(), changeLog.getChangesSince(0).get());
+        changeLog.recordChange(0, null, ALICE);
+        assertEquals(Collections.emptyList(), changeLog.getChangesSince(1).get());
+    }
+
+    @Test
+    public void getChangesSince_knownChanges_oldestFirst() {
+        changeLog.recordChange(0, null, ALICE);
+        changeLog.recordChange(0, ALICE, BENSON);
+        assertEquals(2L, changeLog.getModificationCount());
+        assertEquals(Arrays.asList(new ChangeLog.Change(0, null, ALICE), new ChangeLog.Change(0, ALICE, BENSON)),
+                changeLog.getChangesSince(0).get());
+        assertEquals(Arrays.asList(new ChangeLog.Change(0, ALICE, BENSON)), changeLog.getChangesSince(1).get());
+    }
+
+    @Test
+    public void getChangesSince_beyondCapacity_unknown() {
+        changeLog.recordChange(0, null, ALICE);
+        changeLog.recordChange(1, null, BENSON);
+        changeLog.recordChange(2, null, CARL);
+        assertFalse(changeLog.getChangesSince(0).isPresent());
+        assertEquals(Arrays.asList(new ChangeLog.Change(1, null, BENSON), new ChangeLog.Change(2, null, CARL)),
+                changeLog.getChangesSince(1).get());
+    }
+
+    @Test
+    public void getChangesSince_unknownChange_unknownUntilThen() {
+        changeLog.recordChange(0, null, ALICE);
+        changeLog.recordUnknownChange();
+        changeLog.recordChange(0, ALICE, null);
+        assertFalse(changeLog.getChangesSince(1).isPresent());
+        assertEquals(Arrays.asList(new ChangeLog.Change(0, ALICE, null)), changeLog.getChangesSince(2).get());
+    }
+
+    @Test
+    public void getChangesSince_futureCount_unknown() {
+        assertFalse(changeLog.getChangesSince(1).isPresent());
+    }
+
+    @Test
+    public void copy_sameLogIdAndChanges_independentlyUpdated() {
+        changeLog.recordChange(0, null, ALICE);
+        ChangeLog copy = new ChangeLog(changeLog);
+        changeLog.recordChange(1, null, BENSON);
+
+        assertEquals(changeLog.getLogId(), copy.getLogId());
+        assertEquals(1L, copy.getModificationCount());
+        assertEquals(Arrays.asList(new ChangeLog.Change(0, null, ALICE)), copy.getChangesSince(0).get());
+        assertNotEquals(changeLog.getLogId(), new ChangeLog().getLogId());
+    }
+}
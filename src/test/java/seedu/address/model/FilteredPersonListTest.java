@@ -0,0 +1,140 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestUtil;
+
+public class FilteredPersonListTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final FilteredPersonList filteredPersons = new FilteredPersonList(addressBook.getPersonList(),
+            addressBook::indexOfPerson);
+
+    @Test
+    public void constructor_everyPersonShown() {
+        assertNull(filteredPersons.getPredicate());
+        assertEquals(addressBook.getPersonList(), filteredPersons);
+    }
+
+    @Test
+    public void setPredicate_indexedPredicate_onlyCandidatesLookedUp() {
+        AtomicInteger lookupCount = new AtomicInteger();
+        FilteredPersonList filteredPersons = new FilteredPersonList(addressBook.getPersonList(), person -> {
+            lookupCount.incrementAndGet();
+            return addressBook.indexOfPerson(person);
+        });
+
+        filteredPersons.setPredicate(addressBook.nameContainsAnyKeyword(Collections.singletonList("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), filteredPersons);
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    public void setPredicate_otherPredicate_everyPersonTested() {
+        filteredPersons.setPredicate(person -> person.getName().fullName.startsWith("C"));
+        assertEquals(Collections.singletonList(CARL), filteredPersons);
+    }
+
+    @Test
+    public void setPredicate_null_everyPersonShown() {
+        filteredPersons.setPredicate(addressBook.tagsMatch(query("owesMoney")));
+        assertEquals(Collections.singletonList(BENSON), filteredPersons);
+
+        filteredPersons.setPredicate(null);
+        assertEquals(addressBook.getPersonList(), filteredPersons);
+    }
+
+    @Test
+    public void getSourceIndexAndViewIndex_filtered_mappedBetweenLists() {
+        filteredPersons.setPredicate(addressBook.nameContainsAnyKeyword(Collections.singletonList("Meier")));
+        assertEquals(addressBook.indexOfPerson(DANIEL), filteredPersons.getSourceIndex(1));
+        assertEquals(1, filteredPersons.getViewIndex(addressBook.indexOfPerson(DANIEL)));
+        assertEquals(-1, filteredPersons.getViewIndex(addressBook.indexOfPerson(ALICE)));
+    }
+
+    @Test
+    public void sourceChanged_filtered_matchingChangesShown() {
+        List<Person> mirror = mirror(filteredPersons);
+        filteredPersons.setPredicate(addressBook.tagsMatch(query("friends")));
+
+        Person aliceWithoutFriends = new PersonBuilder(ALICE).withTags().build();
+        Person carlWithFriends = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(ALICE, aliceWithoutFriends);
+        addressBook.setPerson(CARL, carlWithFriends);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(Arrays.asList(carlWithFriends, DANIEL), filteredPersons);
+        assertEquals(filteredPersons, mirror);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFilteringEveryPerson() {
+        Random random = new Random(4);
+        List<Person> pool = TestUtil.getGeneratedPersons(200);
+        addressBook.setPersons(new ArrayList<>(pool.subList(0, 100)));
+        Predicate<Person> isFriend = person -> person.getTags().contains(new Tag("friends"));
+        filteredPersons.setPredicate(addressBook.tagsMatch(query("friends")));
+        List<Person> mirror = mirror(filteredPersons);
+
+        for (int i = 0; i < 500; i++) {
+            List<Person> persons = addressBook.getPersonList();
+            Person absent = pool.get(random.nextInt(pool.size()));
+            if (persons.contains(absent)) {
+                addressBook.removePerson(absent);
+            } else if (random.nextBoolean() && !persons.isEmpty()) {
+                addressBook.setPerson(persons.get(random.nextInt(persons.size())), absent);
+            } else {
+                addressBook.addPerson(random.nextInt(persons.size() + 1), absent);
+            }
+
+            List<Person> expected = addressBook.getPersonList().stream().filter(isFriend)
+                    .collect(Collectors.toList());
+            assertEquals(expected, filteredPersons);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    /**
+     * Returns a list that listens to {@code list} and makes the same changes to itself.
+     */
+    private static List<Person> mirror(FilteredPersonList list) {
+        List<Person> mirror = new ArrayList<>(list);
+        list.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        return mirror;
+    }
+
+    private static TagQuery query(String tagName) {
+        return new TagQuery(Collections.singletonList(
+                new TagQuery.Clause(Collections.singleton(new Tag(tagName)), Collections.emptySet())));
+    }
+}
@@ -13,11 +13,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -129,6 +132,43 @@ public class ModelManagerTest {
         assertEquals(updatedAlice, modelManager.getSelectedPerson());
     }
 
+    @Test
+    public void updateFilteredPersonList_showAllWhileShowingAll_filteredListNotChanged() {
+        modelManager.addPerson(ALICE);
+        SimpleIntegerProperty changeCounter = new SimpleIntegerProperty();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                changeCounter.set(changeCounter.get() + 1));
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.addPerson(BENSON);
+        assertEquals(1, changeCounter.get());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_showAllWhileFiltered_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywordsPredicateAsPredicate_filtersByName() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(Collections.singletonList("alice"));
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        // the filter follows later modifications of the address book
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.exceptions.ReadOnlyModelException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class ReadOnlyModelManagerTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final ReadOnlyModelManager modelManager = new ReadOnlyModelManager(addressBook, new UserPrefs());
+
+    @Test
+    public void constructor_addressBookNotCopied() {
+        assertSame(addressBook, modelManager.getAddressBook());
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+        assertNull(modelManager.getSelectedPerson());
+    }
+
+    @Test
+    public void hasPerson_personInAddressBook_returnsTrue() {
+        assertTrue(modelManager.hasPerson(new PersonBuilder(ALICE).withAddress("elsewhere").build()));
+        assertFalse(modelManager.hasPerson(AMY));
+    }
+
+    @Test
+    public void addPerson_throwsReadOnlyModelException() {
+        thrown.expect(ReadOnlyModelException.class);
+        modelManager.addPerson(AMY);
+    }
+
+    @Test
+    public void setPerson_throwsReadOnlyModelException() {
+        thrown.expect(ReadOnlyModelException.class);
+        modelManager.setPerson(ALICE, AMY);
+    }
+
+    @Test
+    public void deletePerson_throwsReadOnlyModelException() {
+        thrown.expect(ReadOnlyModelException.class);
+        modelManager.deletePerson(ALICE);
+    }
+
+    @Test
+    public void setAddressBook_throwsReadOnlyModelException() {
+        thrown.expect(ReadOnlyModelException.class);
+        modelManager.setAddressBook(new AddressBook());
+    }
+
+    @Test
+    public void canUndoAndCanRedo_returnFalse() {
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void updateFilteredPersonList_predicate_matchingPersonsShown() {
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_selectedPersonNotMatching_selectionCleared() {
+        modelManager.setSelectedPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        assertEquals(BENSON, modelManager.getSelectedPerson());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Alice")));
+        assertNull(modelManager.getSelectedPerson());
+    }
+
+    @Test
+    public void setSelectedPerson_personNotInFilteredPersonList_throwsPersonNotFoundException() {
+        thrown.expect(PersonNotFoundException.class);
+        modelManager.setSelectedPerson(AMY);
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(modelManager.equals(new ReadOnlyModelManager(addressBook, new UserPrefs())));
+
+        // same object -> returns true
+        assertTrue(modelManager.equals(modelManager));
+
+        // null -> returns false
+        assertFalse(modelManager.equals(null));
+
+        // different types -> returns false
+        assertFalse(modelManager.equals(new ModelManager(addressBook, new UserPrefs())));
+
+        // different filteredList -> returns false
+        ReadOnlyModelManager filteredModelManager = new ReadOnlyModelManager(addressBook, new UserPrefs());
+        filteredModelManager.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")));
+        assertFalse(modelManager.equals(filteredModelManager));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TestUtil;
+
+/**
+ * Measures how much heap the undo history of a {@link VersionedAddressBook} keeps after a number of commits that each
+ * replace one person, in each {@link UndoHistoryMode}, and how long undoing and redoing all of them takes. For
+ * comparison, it also estimates the heap that keeping a full copy of the address book for each commit would take, from
+ * the heap that a few such copies take, as that many copies would not fit in the heap.
+ *
+ * This is not run with the tests. Run its {@code main} method to print the results, optionally with the number of
+ * persons and the number of commits as arguments. The defaults of 100,000 persons and 1,000 commits need a heap of
+ * about 2 GB, e.g. {@code -Xmx2g}.
+ */
+public class VersionedAddressBookMemoryBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int DEFAULT_COMMIT_COUNT = 1_000;
+    private static final int SAMPLE_COPY_COUNT = 5;
+
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int commitCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COMMIT_COUNT;
+        List<Person> persons = TestUtil.getGeneratedPersons(personCount + commitCount);
+        List<Person> initialPersons = persons.subList(0, personCount);
+        List<Person> editedPersons = persons.subList(personCount, persons.size());
+        System.out.println(String.format("%d commits on an address book of %d persons", commitCount, personCount));
+
+        AddressBook initialState = new AddressBook();
+        initialState.setPersons(initialPersons);
+        // the first modification of an address book frees what setting up the benchmark left behind, so it is made
+        // before anything is measured
+        run(UndoHistoryMode.SNAPSHOT, initialState, editedPersons.subList(0, 1));
+
+        System.out.println(runCopies(initialState, commitCount));
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            System.out.println(run(mode, initialState, editedPersons));
+        }
+    }
+
+    /**
+     * Returns the heap that {@code commitCount} copies of {@code addressBook} would take, estimated from the heap that
+     * {@code SAMPLE_COPY_COUNT} copies take.
+     */
+    private static String runCopies(AddressBook addressBook, int commitCount) {
+        long before = getUsedHeap();
+        List<AddressBook> copies = new ArrayList<>();
+        for (int i = 0; i < SAMPLE_COPY_COUNT; i++) {
+            copies.add(new AddressBook(addressBook));
+        }
+        long after = getUsedHeap();
+        return String.format("%-16s %10.1f MB history (estimated from %d copies)", "COPY",
+                toMegabytes((after - before) / copies.size() * commitCount), copies.size());
+    }
+
+    /**
+     * Replaces a random person of a {@code VersionedAddressBook} of {@code initialState} in {@code mode} with each of
+     * {@code editedPersons}, committing after each, then undoes and redoes every commit, and returns the heap that the
+     * history took and the time that undoing and redoing took.
+     */
+    private static String run(UndoHistoryMode mode, AddressBook initialState, List<Person> editedPersons) {
+        Random random = new Random(2103);
+        VersionedAddressBook addressBook = new VersionedAddressBook(initialState, mode, Integer.MAX_VALUE);
+        long before = getUsedHeap();
+        for (Person editedPerson : editedPersons) {
+            List<Person> persons = addressBook.getPersonList();
+            addressBook.setPerson(persons.get(random.nextInt(persons.size())), editedPerson);
+            addressBook.commit();
+        }
+        long after = getUsedHeap();
+
+        long start = System.nanoTime();
+        while (addressBook.canUndo()) {
+            addressBook.undo();
+        }
+        long undone = System.nanoTime();
+        while (addressBook.canRedo()) {
+            addressBook.redo();
+        }
+        long redone = System.nanoTime();
+
+        return String.format("%-16s %10.1f MB history, %8.3f ms/undo, %8.3f ms/redo", mode,
+                toMegabytes(after - before), (undone - start) / 1e6 / editedPersons.size(),
+                (redone - undone) / 1e6 / editedPersons.size());
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
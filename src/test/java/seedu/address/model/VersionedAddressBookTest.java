@@ -8,13 +8,18 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.Test;
 
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.TestUtil;
 
 public class VersionedAddressBookTest {
 
@@ -207,6 +212,198 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_afterPersonLevelModifications_restoresEachCommittedState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        assertEquals(new AddressBookBuilder().withPerson(CARL).build(), new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_singlePersonEdited_onlyThatPersonReplaced() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addPersons(Arrays.asList(AMY, BOB));
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(AMY, CARL);
+        versionedAddressBook.commit();
+        long modificationCount = versionedAddressBook.getChangeLog().get().getModificationCount();
+
+        versionedAddressBook.undo();
+        assertEquals(Optional.of(Collections.singletonList(new ChangeLog.Change(0, CARL, AMY))),
+                versionedAddressBook.getChangeLog().get().getChangesSince(modificationCount));
+    }
+
+    @Test
+    public void undoAndRedo_randomModifications_restoreEachCommittedState() {
+        Random random = new Random(2103);
+        List<Person> pool = TestUtil.getGeneratedPersons(300);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook);
+        versionedAddressBook.addInitialPersons(pool.subList(0, 200));
+        List<List<Person>> committedStates = new ArrayList<>();
+        committedStates.add(new ArrayList<>(versionedAddressBook.getPersonList()));
+
+        for (int i = 0; i < 100; i++) {
+            for (int j = i % 25 == 24 ? 150 : random.nextInt(4); j > 0; j--) {
+                List<Person> persons = versionedAddressBook.getPersonList();
+                Person person = pool.get(random.nextInt(pool.size()));
+                if (persons.contains(person)) {
+                    versionedAddressBook.removePerson(person);
+                } else if (random.nextBoolean()) {
+                    versionedAddressBook.setPerson(persons.get(random.nextInt(persons.size())), person);
+                } else {
+                    versionedAddressBook.addPerson(random.nextInt(persons.size() + 1), person);
+                }
+            }
+            versionedAddressBook.commit();
+            committedStates.add(new ArrayList<>(versionedAddressBook.getPersonList()));
+        }
+
+        for (int i = committedStates.size() - 2; i >= 0; i--) {
+            versionedAddressBook.undo();
+            assertEquals(committedStates.get(i), versionedAddressBook.getPersonList());
+        }
+        for (int i = 1; i < committedStates.size(); i++) {
+            versionedAddressBook.redo();
+            assertEquals(committedStates.get(i), versionedAddressBook.getPersonList());
+        }
+    }
+
+    @Test
+    public void undo_deltaModeAfterPersonLevelModifications_restoresEachCommittedState() {
+        VersionedAddressBook versionedAddressBook =
+                new VersionedAddressBook(emptyAddressBook, UndoHistoryMode.DELTA, Integer.MAX_VALUE);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(AMY);
+        versionedAddressBook.setPerson(BOB, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(emptyAddressBook);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithCarl, new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithCarl, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook =
+                    new VersionedAddressBook(emptyAddressBook, mode, Integer.MAX_VALUE);
+            versionedAddressBook.addPerson(AMY);
+            versionedAddressBook.commit();
+            versionedAddressBook.addPerson(BOB);
+
+            versionedAddressBook.undo();
+            assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+            versionedAddressBook.redo();
+            assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        }
+    }
+
+    @Test
+    public void addInitialPersons_thenModified_initialPersonsNotUndone() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook =
+                    new VersionedAddressBook(emptyAddressBook, mode, Integer.MAX_VALUE);
+            versionedAddressBook.addInitialPersons(Arrays.asList(AMY));
+            assertFalse(versionedAddressBook.canUndo());
+
+            versionedAddressBook.addPerson(BOB);
+            versionedAddressBook.commit();
+            versionedAddressBook.undo();
+            assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+            assertFalse(versionedAddressBook.canUndo());
+        }
+    }
+
+    @Test
+    public void addInitialPersons_afterModification_throwsIllegalStateException() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook =
+                    new VersionedAddressBook(emptyAddressBook, mode, Integer.MAX_VALUE);
+            versionedAddressBook.addPerson(AMY);
+            assertThrows(IllegalStateException.class, () -> versionedAddressBook.addInitialPersons(Arrays.asList(BOB)));
+        }
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_oldestStatesRemoved() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, mode, 2);
+            versionedAddressBook.resetData(addressBookWithAmy);
+            versionedAddressBook.commit();
+            versionedAddressBook.resetData(addressBookWithBob);
+            versionedAddressBook.commit();
+            versionedAddressBook.resetData(addressBookWithCarl);
+            versionedAddressBook.commit();
+
+            versionedAddressBook.undo();
+            versionedAddressBook.undo();
+            assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+            assertFalse(versionedAddressBook.canUndo());
+        }
+    }
+
+    @Test
+    public void commit_zeroHistoryLimit_cannotUndo() {
+        VersionedAddressBook versionedAddressBook =
+                new VersionedAddressBook(emptyAddressBook, UndoHistoryMode.SNAPSHOT, 0);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void getPersonListSnapshot_laterModifications_snapshotUnchanged() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook =
+                    new VersionedAddressBook(addressBookWithAmy, mode, Integer.MAX_VALUE);
+            versionedAddressBook.addPerson(BOB);
+            List<Person> snapshot = versionedAddressBook.getPersonListSnapshot();
+            assertEquals(Arrays.asList(AMY, BOB), snapshot);
+
+            versionedAddressBook.removePerson(AMY);
+            versionedAddressBook.commit();
+            versionedAddressBook.undo();
+            versionedAddressBook.resetData(addressBookWithCarl);
+            assertEquals(Arrays.asList(AMY, BOB), snapshot);
+            assertEquals(Arrays.asList(CARL), versionedAddressBook.getPersonListSnapshot());
+        }
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -1,11 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.TestUtil;
 
 public class AddressTest {
 
@@ -34,4 +36,12 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("-")); // one character
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
+
+    @Test
+    public void isValidAddress_randomStrings_sameAsValidationRegex() {
+        String alphabet = "a #- \t\n\r\u000B\f\u0085\u2028\u2029\u00a0";
+        for (String test : TestUtil.getRandomStrings(alphabet, 5, 20000)) {
+            assertEquals(test, test.matches(Address.VALIDATION_REGEX), Address.isValidAddress(test));
+        }
+    }
 }
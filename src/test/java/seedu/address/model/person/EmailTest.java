@@ -1,11 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.TestUtil;
 
 public class EmailTest {
 
@@ -59,4 +61,11 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com")); // long domain name
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
     }
+
+    @Test
+    public void isValidEmail_randomStrings_sameAsValidationRegex() {
+        for (String test : TestUtil.getRandomStrings("aZ09_@.-!#$%&'*+/=?`{|}~^ \u00e9", 8, 20000)) {
+            assertEquals(test, test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test));
+        }
+    }
 }
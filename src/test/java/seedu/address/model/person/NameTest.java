@@ -1,11 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.TestUtil;
 
 public class NameTest {
 
@@ -38,4 +40,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void isValidName_randomStrings_sameAsValidationRegex() {
+        for (String test : TestUtil.getRandomStrings("aZ09 _-\t\u00e9", 6, 20000)) {
+            assertEquals(test, test.matches(Name.VALIDATION_REGEX), Name.isValidName(test));
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void nameContainsAnyKeyword_emptyIndex_returnsFalse() {
+        assertFalse(index.nameContainsAnyKeyword(Collections.singletonList("Alice")).test(ALICE));
+    }
+
+    @Test
+    public void nameContainsAnyKeyword_matchingWords_returnsTrue() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        // one keyword
+        assertTrue(index.nameContainsAnyKeyword(Collections.singletonList("Alice")).test(ALICE));
+
+        // mixed-case keyword
+        assertTrue(index.nameContainsAnyKeyword(Collections.singletonList("pAULINE")).test(ALICE));
+
+        // only one matching keyword
+        Predicate<Person> predicate = index.nameContainsAnyKeyword(Arrays.asList("Carol", "Meier"));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void nameContainsAnyKeyword_getCandidates_personsWithAnyKeyword() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        IndexedPersonPredicate predicate = index.nameContainsAnyKeyword(Arrays.asList("meier", "Pauline", "Carol"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)), new HashSet<>(predicate.getCandidates()));
+        assertTrue(index.nameContainsAnyKeyword(Collections.singletonList("Carol")).getCandidates().isEmpty());
+    }
+
+    @Test
+    public void nameContainsAnyKeyword_partialWord_returnsFalse() {
+        index.add(ALICE);
+        assertFalse(index.nameContainsAnyKeyword(Collections.singletonList("Ali")).test(ALICE));
+    }
+
+    @Test
+    public void nameContainsAnyKeyword_personNotIndexed_returnsFalse() {
+        index.add(ALICE);
+        Person otherAlice = new PersonBuilder(ALICE).build();
+        assertFalse(index.nameContainsAnyKeyword(Collections.singletonList("Alice")).test(otherAlice));
+    }
+
+    @Test
+    public void nameContainsAnyKeyword_afterIndexUpdated_reflectsUpdate() {
+        Predicate<Person> predicate = index.nameContainsAnyKeyword(Collections.singletonList("Alice"));
+        index.add(ALICE);
+        assertTrue(predicate.test(ALICE));
+
+        index.remove(ALICE);
+        assertFalse(predicate.test(ALICE));
+
+        index.setAll(Arrays.asList(ALICE, BENSON));
+        assertTrue(predicate.test(ALICE));
+    }
+}
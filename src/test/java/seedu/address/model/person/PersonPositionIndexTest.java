@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPositionIndexTest {
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL));
+    private final PersonPositionIndex index = new PersonPositionIndex(persons);
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        assertEquals(-1, index.indexOf(DANIEL));
+    }
+
+    @Test
+    public void indexOf_afterInsertion_laterPersonsShifted() {
+        insert(1, DANIEL);
+        assertIndexMatchesList();
+    }
+
+    @Test
+    public void indexOf_afterRemoval_laterPersonsShifted() {
+        remove(0);
+        assertEquals(-1, index.indexOf(ALICE));
+        assertIndexMatchesList();
+    }
+
+    @Test
+    public void indexOf_afterManyShifts_indexRebuilt() {
+        // more shifts than may be pending, so the index is rebuilt at least once along the way
+        for (int i = 0; i < 100; i++) {
+            insert(i % 3, new PersonBuilder().withName("Person " + i).build());
+        }
+        for (int i = 0; i < 50; i++) {
+            remove(i % 7);
+        }
+        assertIndexMatchesList();
+    }
+
+    @Test
+    public void indexOf_shadowedPerson_foundByScanningList() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        persons.set(1, aliceCopy);
+        index.remove(1, BENSON);
+        index.put(1, aliceCopy);
+        assertEquals(0, index.indexOf(aliceCopy));
+
+        // the indexed person is removed, so its shadowed copy is found by scanning the list instead
+        remove(0);
+        assertEquals(0, index.indexOf(ALICE));
+
+        remove(0);
+        assertEquals(-1, index.indexOf(ALICE));
+        assertIndexMatchesList();
+    }
+
+    @Test
+    public void rebuild_listChangedWithoutIndex_indexMatchesList() {
+        persons.add(0, DANIEL);
+        persons.remove(CARL);
+        index.rebuild();
+        assertIndexMatchesList();
+    }
+
+    private void insert(int position, Person person) {
+        persons.add(position, person);
+        index.insert(position, person);
+    }
+
+    private void remove(int position) {
+        index.remove(position, persons.get(position));
+        persons.remove(position);
+        index.shiftAfterRemoval(position);
+    }
+
+    private void assertIndexMatchesList() {
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, index.indexOf(persons.get(i)));
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.TestUtil;
 
 public class PhoneTest {
 
@@ -38,4 +40,11 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsValidationRegex() {
+        for (String test : TestUtil.getRandomStrings("09a +", 6, 20000)) {
+            assertEquals(test, test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test));
+        }
+    }
 }
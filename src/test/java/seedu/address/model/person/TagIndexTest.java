@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void tagsMatch_personNotInIndex_returnsFalse() {
+        assertFalse(index.tagsMatch(query("friends")).test(ALICE));
+    }
+
+    @Test
+    public void tagsMatch_afterModifications_matchesCurrentPersons() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        Predicate<Person> friends = index.tagsMatch(query("friends"));
+        Predicate<Person> notOwesMoney = index.tagsMatch(new TagQuery(Collections.singletonList(
+                new TagQuery.Clause(Collections.emptySet(), Collections.singleton(new Tag("owesMoney"))))));
+
+        assertTrue(friends.test(ALICE));
+        assertTrue(friends.test(BENSON));
+        assertFalse(friends.test(CARL));
+        assertTrue(notOwesMoney.test(CARL));
+        assertFalse(notOwesMoney.test(BENSON));
+
+        // predicates reflect later changes to the index
+        index.remove(ALICE);
+        Person carlWithFriends = new PersonBuilder(CARL).withTags("friends").build();
+        index.remove(CARL);
+        index.add(carlWithFriends);
+        assertFalse(friends.test(ALICE));
+        assertTrue(friends.test(carlWithFriends));
+        assertFalse(friends.test(CARL));
+
+        // unknown tag
+        assertFalse(index.tagsMatch(query("tagIndexUnknown")).test(BENSON));
+    }
+
+    @Test
+    public void tagsMatch_randomQueries_sameAsMatchingTags() {
+        Random random = new Random(2103);
+        String[] tagNames = {"friends", "family", "colleagues", "owesMoney"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            List<String> personTags = new ArrayList<>();
+            for (String tagName : tagNames) {
+                if (random.nextBoolean()) {
+                    personTags.add(tagName);
+                }
+            }
+            persons.add(new PersonBuilder().withName("Person " + i).withTags(personTags.toArray(new String[0]))
+                    .build());
+        }
+        index.setAll(persons);
+        for (int i = 0; i < 50; i += 2) {
+            index.remove(persons.get(i));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            List<TagQuery.Clause> clauses = new ArrayList<>();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                Tag included = new Tag(tagNames[random.nextInt(tagNames.length)]);
+                Tag excluded = new Tag(tagNames[random.nextInt(tagNames.length)]);
+                clauses.add(new TagQuery.Clause(new HashSet<>(Arrays.asList(included)),
+                        random.nextBoolean() ? Collections.singleton(excluded) : Collections.emptySet()));
+            }
+            TagQuery query = new TagQuery(clauses);
+            IndexedPersonPredicate indexed = index.tagsMatch(query);
+            Set<Person> matchingPersons = new HashSet<>();
+            for (int j = 0; j < persons.size(); j++) {
+                Person person = persons.get(j);
+                boolean isIndexed = j >= 50 || j % 2 == 1;
+                assertEquals(isIndexed && query.matches(person.getTags()), indexed.test(person));
+                if (isIndexed && query.matches(person.getTags())) {
+                    matchingPersons.add(person);
+                }
+            }
+            assertEquals(matchingPersons, new HashSet<>(indexed.getCandidates()));
+        }
+    }
+
+    private static TagQuery query(String tagName) {
+        return new TagQuery(Collections.singletonList(
+                new TagQuery.Clause(Collections.singleton(new Tag(tagName)), Collections.emptySet())));
+    }
+
+}
@@ -4,13 +4,19 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -51,6 +57,43 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailOnlyInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personWithSameNameOnlyInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -64,6 +107,35 @@ public class UniquePersonListTest {
         uniquePersonList.add(ALICE);
     }
 
+    @Test
+    public void addAll_persons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, HOON));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(HOON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(2, uniquePersonList.indexOf(HOON));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        try {
+            uniquePersonList.addAll(Arrays.asList(BOB, ALICE));
+            throw new AssertionError("Expected DuplicatePersonException");
+        } catch (DuplicatePersonException dpe) {
+            assertFalse(uniquePersonList.contains(BOB));
+        }
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.addAll(Arrays.asList(BOB, BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +249,64 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void nameContainsAnyKeyword_afterModifications_matchesCurrentPersons() {
+        Predicate<Person> predicate = uniquePersonList.nameContainsAnyKeyword(Collections.singletonList("alice"));
+        uniquePersonList.add(ALICE);
+        assertTrue(predicate.test(ALICE));
+
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(BOB));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(predicate.test(ALICE));
+
+        uniquePersonList.remove(ALICE);
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void indexOf_afterInsertionsAndRemovals_matchesListPositions() {
+        Random random = new Random(2103);
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expectedPersons.isEmpty() || operation == 0) {
+                Person person = new PersonBuilder().withName("Person " + i).build();
+                int index = random.nextInt(expectedPersons.size() + 1);
+                uniquePersonList.add(index, person);
+                expectedPersons.add(index, person);
+            } else if (operation == 1) {
+                Person person = new PersonBuilder().withName("Person " + i).build();
+                uniquePersonList.add(person);
+                expectedPersons.add(person);
+            } else if (operation == 2) {
+                Person target = expectedPersons.get(random.nextInt(expectedPersons.size()));
+                uniquePersonList.remove(target);
+                expectedPersons.remove(target);
+            } else {
+                int index = random.nextInt(expectedPersons.size());
+                Person editedPerson = new PersonBuilder(expectedPersons.get(index)).withTags("edited" + i).build();
+                uniquePersonList.setPerson(expectedPersons.get(index), editedPerson);
+                expectedPersons.set(index, editedPerson);
+            }
+
+            Person probe = expectedPersons.get(random.nextInt(expectedPersons.size()));
+            assertEquals(expectedPersons.indexOf(probe), uniquePersonList.indexOf(probe));
+        }
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertEquals(i, uniquePersonList.indexOf(expectedPersons.get(i)));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
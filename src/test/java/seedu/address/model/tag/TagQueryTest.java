@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TagQueryTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag FAMILY = new Tag("family");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+
+    @Test
+    public void constructor_noClauses_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new TagQuery(Collections.emptyList()));
+    }
+
+    @Test
+    public void clauseConstructor_noTags_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new TagQuery.Clause(Collections.emptySet(), Collections.emptySet()));
+    }
+
+    @Test
+    public void matches() {
+        // friends AND NOT colleagues OR family
+        TagQuery query = new TagQuery(Arrays.asList(
+                new TagQuery.Clause(tags(FRIENDS), tags(COLLEAGUES)),
+                new TagQuery.Clause(tags(FAMILY), tags())));
+
+        assertTrue(query.matches(tags(FRIENDS)));
+        assertTrue(query.matches(tags(FAMILY)));
+        assertTrue(query.matches(tags(FAMILY, COLLEAGUES)));
+        assertFalse(query.matches(tags(FRIENDS, COLLEAGUES)));
+        assertFalse(query.matches(tags(COLLEAGUES)));
+        assertFalse(query.matches(tags()));
+
+        // NOT friends
+        TagQuery notQuery = new TagQuery(Collections.singletonList(new TagQuery.Clause(tags(), tags(FRIENDS))));
+        assertTrue(notQuery.matches(tags()));
+        assertTrue(notQuery.matches(tags(FAMILY)));
+        assertFalse(notQuery.matches(tags(FRIENDS)));
+    }
+
+    @Test
+    public void equals() {
+        TagQuery query = new TagQuery(Collections.singletonList(new TagQuery.Clause(tags(FRIENDS), tags(FAMILY))));
+
+        // same values -> returns true
+        assertTrue(query.equals(
+                new TagQuery(Collections.singletonList(new TagQuery.Clause(tags(FRIENDS), tags(FAMILY))))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different negation -> returns false
+        assertFalse(query.equals(
+                new TagQuery(Collections.singletonList(new TagQuery.Clause(tags(FAMILY), tags(FRIENDS))))));
+    }
+
+    private static Set<Tag> tags(Tag... tags) {
+        return new HashSet<>(Arrays.asList(tags));
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TagRegistryTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> TagRegistry.intern(null));
+    }
+
+    @Test
+    public void intern_equalTags_returnsSameInstance() {
+        Tag tag = TagRegistry.intern(new Tag("registryColleagues"));
+        assertSame(tag, TagRegistry.intern(new Tag("registryColleagues")));
+        assertEquals(tag.getId(), TagRegistry.findId(new Tag("registryColleagues")));
+    }
+
+    @Test
+    public void intern_differentTags_differentIds() {
+        Tag friends = TagRegistry.intern(new Tag("registryFriends"));
+        Tag family = TagRegistry.intern(new Tag("registryFamily"));
+        assertNotEquals(friends.getId(), family.getId());
+    }
+
+    @Test
+    public void findId_unregisteredTag_returnsMinusOne() {
+        assertEquals(-1, TagRegistry.findId(new Tag("registryNeverUsed")));
+        assertEquals(-1, new Tag("registryNeverUsed").getId());
+    }
+
+    @Test
+    public void intern_tagNoLongerUsed_idFreed() throws Exception {
+        TagRegistry.intern(new Tag("registryForgotten"));
+
+        // the interned tag is only weakly held, so it is collected once no one else holds it
+        for (int i = 0; i < 100 && TagRegistry.findId(new Tag("registryForgotten")) != -1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(-1, TagRegistry.findId(new Tag("registryForgotten")));
+
+        Tag retained = TagRegistry.intern(new Tag("registryRetained"));
+        int sizeWithRetained = TagRegistry.size();
+        TagRegistry.intern(new Tag("registryRetained"));
+        assertEquals(sizeWithRetained, TagRegistry.size());
+        assertEquals(retained.getId(), TagRegistry.findId(new Tag("registryRetained")));
+    }
+
+}
@@ -1,8 +1,11 @@
 package seedu.address.model.tag;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.TestUtil;
 
 public class TagTest {
 
@@ -23,4 +26,11 @@ public class TagTest {
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_randomStrings_sameAsValidationRegex() {
+        for (String test : TestUtil.getRandomStrings("aZ09 _#\u00e9", 4, 20000)) {
+            assertEquals(test, test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test));
+        }
+    }
+
 }
@@ -0,0 +1,151 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> empty = PersistentList.empty();
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.size());
+        assertEquals(Collections.emptyList(), empty.toList());
+    }
+
+    @Test
+    public void of_list_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(elements.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void asList_sameElementsInOrderAndUnmodifiable() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        List<String> view = PersistentList.of(elements).asList();
+        assertEquals(elements, view);
+        assertEquals("c", view.get(2));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("f"));
+    }
+
+    @Test
+    public void updates_doNotModifyOriginal() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        original.add("d");
+        original.set(0, "z");
+        original.remove(1);
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+    }
+
+    @Test
+    public void updates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void commonPrefixLengthAndCommonSuffixLength_derivedLists_sameAsComparingEachElement() {
+        Random random = new Random(2103);
+        PersistentList<Integer> original = PersistentList.empty();
+        for (int i = 0; i < 1000; i++) {
+            original = original.add(i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            PersistentList<Integer> derived = original;
+            for (int j = random.nextInt(4); j > 0; j--) {
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    derived = derived.add(random.nextInt(derived.size() + 1), -1);
+                } else if (operation == 1) {
+                    derived = derived.set(random.nextInt(derived.size()), -1);
+                } else {
+                    derived = derived.remove(random.nextInt(derived.size()));
+                }
+            }
+
+            List<Integer> expected = original.toList();
+            List<Integer> actual = derived.toList();
+            int limit = Math.min(expected.size(), actual.size());
+            int prefixLength = 0;
+            while (prefixLength < limit && expected.get(prefixLength) == actual.get(prefixLength)) {
+                prefixLength++;
+            }
+            int suffixLength = 0;
+            while (suffixLength < limit - prefixLength && expected.get(expected.size() - suffixLength - 1)
+                    == actual.get(actual.size() - suffixLength - 1)) {
+                suffixLength++;
+            }
+            assertEquals(prefixLength, original.commonPrefixLength(derived));
+            assertEquals(prefixLength, derived.commonPrefixLength(original));
+            assertEquals(suffixLength, original.commonSuffixLength(derived, limit - prefixLength));
+            assertEquals(suffixLength, derived.commonSuffixLength(original, limit - prefixLength));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.<String>empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different types -> returns false
+        assertFalse(list.equals(Arrays.asList("a", "b")));
+
+        // different values -> returns false
+        assertFalse(list.equals(PersistentList.of(Arrays.asList("b", "a"))));
+        assertFalse(list.equals(list.add("c")));
+    }
+}
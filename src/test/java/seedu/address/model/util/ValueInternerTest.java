@@ -0,0 +1,38 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+
+public class ValueInternerTest {
+
+    @Test
+    public void intern_enabled_returnsSharedInstance() {
+        ValueInterner interner = new ValueInterner(true);
+        Address address = interner.intern(new Address("1 Shared Office Road"));
+        assertSame(address, interner.intern(new Address("1 Shared Office Road")));
+
+        Email email = interner.intern(new Email("shared@example.com"));
+        assertSame(email, interner.intern(new Email("shared@example.com")));
+    }
+
+    @Test
+    public void intern_otherInterner_notShared() {
+        Address address = new ValueInterner(true).intern(new Address("3 Other Office Road"));
+        assertNotSame(address, new ValueInterner(true).intern(new Address("3 Other Office Road")));
+    }
+
+    @Test
+    public void intern_disabled_returnsArgument() {
+        ValueInterner interner = new ValueInterner(false);
+        Address address = new Address("2 Unshared Office Road");
+        assertSame(address, interner.intern(address));
+        assertNotSame(address, interner.intern(new Address("2 Unshared Office Road")));
+        assertSame(address, ValueInterner.DISABLED.intern(address));
+    }
+
+}
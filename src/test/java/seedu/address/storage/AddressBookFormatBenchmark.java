@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TestUtil;
+
+/**
+ * Measures how long {@link BinaryAddressBookStorage} and {@link JsonAddressBookStorage} take to save and load address
+ * books of 10,000, 100,000 and 1,000,000 persons, and how large their files are.
+ *
+ * This is not run with the tests. Run its {@code main} method to print the results, optionally with the numbers of
+ * persons to measure as arguments. A million persons need a heap of about 2 GB, e.g. {@code -Xmx2g}.
+ */
+public class AddressBookFormatBenchmark {
+
+    private static final int[] DEFAULT_PERSON_COUNTS = {10_000, 100_000, 1_000_000};
+    /** Number of times each measurement is repeated, of which the fastest is printed. */
+    private static final int RUN_COUNT = 3;
+
+    public static void main(String[] args) throws Exception {
+        int[] personCounts = DEFAULT_PERSON_COUNTS;
+        if (args.length > 0) {
+            personCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                personCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int personCount : personCounts) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(TestUtil.getGeneratedPersons(personCount));
+            run("json", new JsonAddressBookStorage(TestUtil.getFilePathInSandboxFolder("benchmark.json")),
+                    addressBook);
+            run("binary", new BinaryAddressBookStorage(TestUtil.getFilePathInSandboxFolder("benchmark.bin")),
+                    addressBook);
+        }
+    }
+
+    /**
+     * Saves and loads {@code addressBook} with {@code storage}, and prints the fastest times and the size of the file.
+     */
+    private static void run(String formatName, AddressBookStorage storage, AddressBook addressBook)
+            throws IOException, DataConversionException {
+        long fastestSave = Long.MAX_VALUE;
+        long fastestLoad = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            List<Person> loadedPersons = storage.readAddressBook().get().getPersonList();
+            long loaded = System.nanoTime();
+            if (loadedPersons.size() != addressBook.getPersonList().size()) {
+                throw new AssertionError(formatName + " storage did not load every person");
+            }
+            fastestSave = Math.min(fastestSave, saved - start);
+            fastestLoad = Math.min(fastestLoad, loaded - saved);
+        }
+
+        System.out.println(String.format("%9d persons, %-6s: save %8.1f ms, load %8.1f ms, file %8.1f MB",
+                addressBook.getPersonList().size(), formatName, fastestSave / 1e6, fastestLoad / 1e6,
+                Files.size(storage.getAddressBookFilePath()) / 1e6));
+        Files.delete(storage.getAddressBookFilePath());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AddressBookFormatTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void detect() throws Exception {
+        // missing file
+        assertEquals(AddressBookFormat.JSON, AddressBookFormat.detect(getTempFilePath("missing")));
+
+        // file shorter than the magic bytes
+        Path shortFile = getTempFilePath("short");
+        Files.write(shortFile, "{}".getBytes(UTF_8));
+        assertEquals(AddressBookFormat.JSON, AddressBookFormat.detect(shortFile));
+
+        // json file
+        Path jsonFile = getTempFilePath("ab.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+        assertEquals(AddressBookFormat.JSON, AddressBookFormat.detect(jsonFile));
+
+        // binary file
+        Path binaryFile = getTempFilePath("ab.bin");
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(getTypicalAddressBook());
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormat.detect(binaryFile));
+
+        // manifest of a sharded address book
+        Path manifestFile = getTempFilePath("sharded.json");
+        new ShardedAddressBookStorage(manifestFile).saveAddressBook(getTypicalAddressBook());
+        assertEquals(AddressBookFormat.SHARDED, AddressBookFormat.detect(manifestFile));
+
+        // json snapshot with a journal
+        Files.write(JournalAddressBookStorage.getJournalPath(jsonFile), "{\"number\":1,\"type\":\"CLEAR\"}\n"
+                .getBytes(UTF_8));
+        assertEquals(AddressBookFormat.JOURNAL, AddressBookFormat.detect(jsonFile));
+
+        // file that is not json
+        Path textFile = getTempFilePath("text");
+        Files.write(textFile, "not json at all".getBytes(UTF_8));
+        assertEquals(AddressBookFormat.JSON, AddressBookFormat.detect(textFile));
+    }
+
+    @Test
+    public void createStorage() {
+        Path filePath = getTempFilePath("ab");
+        StorageSettings settings = StorageSettings.DEFAULT;
+        assertTrue(AddressBookFormat.JSON.createStorage(filePath, settings) instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFormat.BINARY.createStorage(filePath, settings) instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFormat.SHARDED.createStorage(filePath, settings) instanceof ShardedAddressBookStorage);
+        assertTrue(AddressBookFormat.JOURNAL.createStorage(filePath, settings) instanceof JournalAddressBookStorage);
+        assertEquals(filePath, AddressBookFormat.BINARY.createStorage(filePath, settings).getAddressBookFilePath());
+    }
+}
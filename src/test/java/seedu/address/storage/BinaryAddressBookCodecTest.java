@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class BinaryAddressBookCodecTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void writeVarint_readVarint_roundTrip() throws Exception {
+        int[] values = {0, 1, 127, 128, 300, 16383, 16384, 1 << 21, 1 << 28, Integer.MAX_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int value : values) {
+            BinaryAddressBookCodec.writeVarint(out, value);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        for (int value : values) {
+            assertEquals(value, BinaryAddressBookCodec.readVarint(buffer));
+        }
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void writeVarint_smallValue_oneByte() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.writeVarint(out, 127);
+        assertEquals(1, out.size());
+    }
+
+    @Test
+    public void readVarint_tooLarge_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        BinaryAddressBookCodec.readVarint(ByteBuffer.wrap(new byte[] {-1, -1, -1, -1, 0x0F}));
+    }
+
+    @Test
+    public void encode_decode_roundTrip() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encode(original.getPersonList(), out);
+
+        PersonListDecoder decoder = StorageSettings.DEFAULT.createDecoder();
+        BinaryAddressBookCodec.decode(ByteBuffer.wrap(out.toByteArray()), decoder);
+        assertEquals(original, decoder.toAddressBook());
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIoException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(BinaryAddressBookCodec.MAGIC);
+        BinaryAddressBookCodec.writeVarint(out, BinaryAddressBookCodec.VERSION + 1);
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage("version");
+        BinaryAddressBookCodec.decode(ByteBuffer.wrap(out.toByteArray()), StorageSettings.DEFAULT.createDecoder());
+    }
+
+    @Test
+    public void decode_versionWithoutOffsetTable_success() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(BinaryAddressBookCodec.MAGIC);
+        BinaryAddressBookCodec.writeVarint(out, 1);
+        BinaryAddressBookCodec.writeVarint(out, 0);
+        BinaryAddressBookCodec.writeVarint(out, 0);
+
+        PersonListDecoder decoder = StorageSettings.DEFAULT.createDecoder();
+        BinaryAddressBookCodec.decode(ByteBuffer.wrap(out.toByteArray()), decoder);
+        assertEquals(new AddressBook(), decoder.toAddressBook());
+    }
+
+    @Test
+    public void decode_trailingData_throwsIoException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encode(new AddressBook().getPersonList(), out);
+        out.write(0);
+
+        thrown.expect(IOException.class);
+        BinaryAddressBookCodec.decode(ByteBuffer.wrap(out.toByteArray()), StorageSettings.DEFAULT.createDecoder());
+    }
+}
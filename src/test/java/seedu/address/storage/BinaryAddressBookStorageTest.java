@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath("ab.bin")).readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sharedStrings_storedOnce() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        String address = "A very long address that is shared by everyone, 123 Shared Street, #01-01";
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withAddress(address)
+                    .withEmail("person" + i + "@a-long-shared-domain.example.com").build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertTrue(bytes.length < 100 * address.length());
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutOffsetTable_success() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        Files.write(filePath, new byte[] {(byte) 0x89, 'A', 'B', 'K', 1, 0, 0});
+        assertEquals(new AddressBook(), new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void readAddressBook_emptyFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        Files.write(filePath, new byte[0]);
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        // corrupt the phone number in place, keeping its length
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] phone = ALICE.getPhone().value.getBytes(UTF_8);
+        int phoneIndex = indexOf(bytes, phone);
+        bytes[phoneIndex] = 'x';
+        Files.write(filePath, bytes);
+
+        try {
+            new BinaryAddressBookStorage(filePath).readAddressBook();
+            fail("The expected DataConversionException was not thrown.");
+        } catch (DataConversionException dce) {
+            assertTrue(dce.getCause() instanceof InvalidRecordsException);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath("ab.bin")).saveAddressBook(null);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code target} in {@code bytes}.
+     */
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + target.length), target)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class CachedAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void getCacheFilePath_fileInFolder_cacheFileInSameFolder() {
+        assertEquals(Paths.get("data", "addressbook.json.cache"),
+                CachedAddressBookStorage.getCacheFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.json.cache"),
+                CachedAddressBookStorage.getCacheFilePath(Paths.get("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResultAndNoCacheFile() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        assertFalse(new CachedAddressBookStorage(jsonStorage).readAddressBook().isPresent());
+        assertFalse(Files.exists(CachedAddressBookStorage.getCacheFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_afterSave_readFromCache() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+
+        assertTrue(Files.exists(CachedAddressBookStorage.getCacheFilePath(filePath)));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(0, jsonStorage.readCount);
+    }
+
+    @Test
+    public void readAddressBook_withoutCache_readFromDataFileThenFromCache() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, jsonStorage.readCount);
+
+        // the cache of the first read is written once flushed
+        storage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    @Test
+    public void saveAddressBook_notFlushed_cacheFileNotWritten() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(CachedAddressBookStorage.getCacheFilePath(filePath)));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    @Test
+    public void saveAddressBook_savedTwiceThenFlushed_cacheOfLastSave() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+        storage.saveAddressBook(new AddressBook());
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+        storage.flushAddressBook();
+
+        assertEquals(modified, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(0, jsonStorage.readCount);
+    }
+
+    @Test
+    public void readAddressBook_dataFileChanged_readFromDataFile() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+
+        // modified without going through the cached storage
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(modified);
+
+        assertEquals(modified, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    @Test
+    public void readAddressBook_corruptCache_readFromDataFile() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+
+        Path cacheFilePath = CachedAddressBookStorage.getCacheFilePath(filePath);
+        byte[] cache = Files.readAllBytes(cacheFilePath);
+        Files.write(cacheFilePath, Arrays.copyOf(cache, cache.length / 2));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    @Test
+    public void readAddressBook_notACacheFile_readFromDataFile() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        CountingStorage jsonStorage = new CountingStorage(filePath);
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(jsonStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        Files.write(CachedAddressBookStorage.getCacheFilePath(filePath), "not a cache".getBytes(UTF_8));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    /**
+     * A json storage that counts the times its data file has been read.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        private int readCount;
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+            readCount++;
+            return super.readAddressBook(filePath);
+        }
+    }
+}
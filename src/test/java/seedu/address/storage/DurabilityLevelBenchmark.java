@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DurabilityLevel;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ValueInterner;
+import seedu.address.testutil.TestUtil;
+
+/**
+ * Measures how many commands per second can be run at each {@link DurabilityLevel}, with the default group commit
+ * settings of {@link Config}. Each command adds a person to an address book that is saved as json, and the address
+ * book is flushed after the last command, as when the application exits.
+ *
+ * This is not run with the tests. Run its {@code main} method to print the results, optionally with the number of
+ * persons in the address book as an argument.
+ */
+public class DurabilityLevelBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 10_000;
+    private static final int COMMAND_COUNT = 200;
+
+    public static void main(String[] args) throws IOException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<Person> persons = TestUtil.getGeneratedPersons(personCount + COMMAND_COUNT);
+        System.out.println(String.format("%d commands on an address book of %d persons", COMMAND_COUNT, personCount));
+        for (DurabilityLevel durabilityLevel : DurabilityLevel.values()) {
+            Path folder = Files.createTempDirectory("durability-benchmark");
+            try {
+                run(durabilityLevel, folder, persons.subList(0, personCount),
+                        persons.subList(personCount, persons.size()));
+            } finally {
+                deleteRecursively(folder);
+            }
+        }
+    }
+
+    /**
+     * Adds each of {@code addedPersons} to an address book of {@code persons} that is saved in {@code folder} at
+     * {@code durabilityLevel}, one command at a time, and prints the rate at which the commands returned, and at which
+     * they were all written.
+     */
+    private static void run(DurabilityLevel durabilityLevel, Path folder, List<Person> persons,
+            List<Person> addedPersons) throws IOException {
+        StorageSettings settings = new StorageSettings(durabilityLevel != DurabilityLevel.NONE, false,
+                ValueInterner.DISABLED);
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(folder.resolve("addressbook.json"), false, settings),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")), settings), durabilityLevel,
+                Config.DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS, Config.DEFAULT_GROUP_COMMIT_COMMAND_LIMIT);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        long start = System.nanoTime();
+        for (Person person : addedPersons) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+        }
+        long returned = System.nanoTime();
+        storage.flushAddressBook();
+        long written = System.nanoTime();
+
+        System.out.println(String.format("%-16s %10.1f commands/s returned, %10.1f commands/s written",
+                durabilityLevel, getRate(addedPersons.size(), returned - start),
+                getRate(addedPersons.size(), written - start)));
+    }
+
+    private static double getRate(int count, long nanos) {
+        return count * 1e9 / nanos;
+    }
+
+    private static void deleteRecursively(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<Runnable> pendingCompactions = new ArrayList<>();
+    private Path filePath;
+    private Path journalPath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+    }
+
+    /**
+     * Returns a storage that never compacts on its own, and that has read the address book from {@code filePath}.
+     */
+    private JournalAddressBookStorage createStorage(long compactionThreshold) throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, compactionThreshold,
+                pendingCompactions::add, StorageSettings.DEFAULT);
+        storage.readAddressBook();
+        return storage;
+    }
+
+    private void runPendingCompactions() {
+        pendingCompactions.forEach(Runnable::run);
+        pendingCompactions.clear();
+    }
+
+    private AddressBook read() throws Exception {
+        return new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(filePath).readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+
+        // first save writes a snapshot
+        storage.saveAddressBook(original);
+        assertEquals(original, read());
+        assertFalse(Files.exists(journalPath));
+
+        // small changes are appended to the journal and leave the snapshot alone
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(original, read());
+
+        // clearing is a single record
+        original.setPersons(new ArrayList<>());
+        storage.saveAddressBook(original);
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingAppended() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_changesKnownToChangeLog_recordsTakenFromChangeLog() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // comparing the persons would replace every one of them, as each moved up by one
+        original.removePerson(ALICE);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void saveAddressBook_changesUnknownToChangeLog_recordsFoundByComparing() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // a copy has a change log of its own, which does not know the changes made since the save
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        copy.addPerson(HOON);
+        storage.saveAddressBook(copy);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(copy, read());
+
+        // later changes to the copy are known to its change log
+        copy.removePerson(ALICE);
+        copy.addPerson(ALICE);
+        storage.saveAddressBook(copy);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(copy, read());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        JournalAddressBookStorage storage = createStorage(1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        runPendingCompactions();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, read());
+
+        // records continue after the compacted ones
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void saveAddressBook_changedDuringCompaction_laterRecordsKept() throws Exception {
+        JournalAddressBookStorage storage = createStorage(1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // this record is appended after the compaction has been scheduled
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        runPendingCompactions();
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeJournalCompacted_compactedRecordsSkipped() throws Exception {
+        JournalAddressBookStorage storage = createStorage(1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // the fresh snapshot was written, but the journal was not yet compacted
+        runPendingCompactions();
+        Files.write(journalPath, journal);
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnoredAndDropped() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"number\":2,\"type\":\"ADD\"".getBytes(UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, read());
+
+        // the next record is appended after the last complete one
+        storage = createStorage(Long.MAX_VALUE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataConversionException() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, "{\"number\":1,\"type\":\"REMOVE\",\"index\":100}\n".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        read();
+    }
+
+    @Test
+    public void readAddressBook_missingRecord_throwsDataConversionException() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, "{\"number\":2,\"type\":\"CLEAR\"}\n".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        read();
+    }
+
+    @Test
+    public void readAddressBook_recordsOutOfOrder_throwsDataConversionException() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, "{\"number\":2,\"type\":\"CLEAR\"}\n{\"number\":1,\"type\":\"CLEAR\"}\n"
+                .getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        read();
+    }
+
+    @Test
+    public void readAddressBook_jsonAddressBookFile_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, read());
+
+        // the first save writes a snapshot, which stays readable as a plain json address book
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        original.addPerson(BOB);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanJsonFile_journalDiscarded() throws Exception {
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook journaled = getTypicalAddressBook();
+        journaled.addPerson(HOON);
+        storage.saveAddressBook(journaled);
+
+        // rewritten by another storage, which left the journal behind
+        original.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        storage = createStorage(Long.MAX_VALUE);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, read());
+
+        // records are appended after a snapshot that records their numbers
+        original.addPerson(BOB);
+        storage.saveAddressBook(original);
+        assertEquals(original, read());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("other.json");
+        JournalAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(filePath).saveAddressBook(null);
+    }
+}
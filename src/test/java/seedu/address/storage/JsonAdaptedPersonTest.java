@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,6 +18,8 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 import seedu.address.testutil.Assert;
 
 public class JsonAdaptedPersonTest {
@@ -107,4 +112,38 @@ public class JsonAdaptedPersonTest {
         Assert.assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void toModelType_nullTagName_throwsIllegalValueException() {
+        List<JsonAdaptedTag> tags = new ArrayList<>(VALID_TAGS);
+        tags.add(new JsonAdaptedTag((String) null));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, tags);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Tag.class.getSimpleName());
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+    }
+
+    @Test
+    public void toTrustedModelType_nullTagName_validated() {
+        List<JsonAdaptedTag> tags = new ArrayList<>(VALID_TAGS);
+        tags.add(null);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, tags);
+        List<String> violations = new ArrayList<>();
+
+        assertNull(person.toTrustedModelType(ValueInterner.DISABLED, violations));
+        assertEquals(Collections.singletonList(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                Tag.class.getSimpleName())), violations);
+    }
+
+    @Test
+    public void toModelType_multipleInvalidFields_reportsEveryViolation() {
+        List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
+        invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, null, VALID_EMAIL, INVALID_ADDRESS, invalidTags);
+        List<String> violations = new ArrayList<>();
+
+        assertNull(person.toModelType(ValueInterner.DISABLED, violations));
+        assertEquals(Arrays.asList(Tag.MESSAGE_CONSTRAINTS, Name.MESSAGE_CONSTRAINTS,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()), Address.MESSAGE_CONSTRAINTS),
+                violations);
+    }
+
 }
@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.OptionalLong;
+import java.util.zip.CRC32C;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path MULTIPLE_INVALID_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("multipleInvalidPersonsAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final JsonAdaptedPerson INVALID_PERSON = new JsonAdaptedPerson("R@chel", "98765432",
+            "rachel@example.com", "4th street", Collections.emptyList());
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path writeTempFile(String content) throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        Files.write(filePath, content.getBytes(UTF_8));
+        return filePath;
+    }
+
+    /**
+     * Writes a file holding {@code jsonPerson}, marked as validated by {@code validatedBy} with its checksum.
+     */
+    private Path writeMarkedFile(int validatedBy, JsonAdaptedPerson jsonPerson) throws Exception {
+        CRC32C checksum = new CRC32C();
+        jsonPerson.updateChecksum(checksum);
+        return writeTempFile("{ \"validatedBy\": " + validatedBy + ", \"checksum\": " + checksum.getValue()
+                + ", \"persons\": [ " + JsonUtil.toJsonString(jsonPerson) + " ] }");
+    }
+
+    private static void replaceInFile(Path filePath, String target, String replacement) throws Exception {
+        String content = new String(Files.readAllBytes(filePath), UTF_8);
+        Files.write(filePath, content.replace(target, replacement).getBytes(UTF_8));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).isPresent());
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                JsonAddressBookReader.read(TYPICAL_PERSONS_FILE, StorageSettings.DEFAULT).get());
+    }
+
+    @Test
+    public void read_sameAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get());
+    }
+
+    @Test
+    public void read_otherFields_skipped() throws Exception {
+        Path filePath = writeTempFile("{ \"version\": { \"major\": [1, 2] }, \"persons\": [ { \"name\": \"Amy Bee\", "
+                + "\"phone\": \"85355255\", \"email\": \"amy@example.com\", \"address\": \"123, Jurong West Ave 6\", "
+                + "\"tagged\": [ \"friend\" ], \"unknown\": {} } ], \"comment\": \"none\" }");
+        assertEquals(1, JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get().getPersonList().size());
+    }
+
+    @Test
+    public void readSnapshot_lastRecordNumber() throws Exception {
+        // written by another storage
+        assertEquals(OptionalLong.empty(),
+                JsonAddressBookReader.readSnapshot(TYPICAL_PERSONS_FILE, StorageSettings.DEFAULT).get()
+                        .getLastRecordNumber());
+
+        // written as the snapshot of a journal, before or after the persons
+        assertEquals(OptionalLong.of(7), JsonAddressBookReader.readSnapshot(
+                writeTempFile("{ \"lastRecordNumber\": 7, \"persons\": [] }"), StorageSettings.DEFAULT)
+                .get().getLastRecordNumber());
+        assertEquals(OptionalLong.of(7), JsonAddressBookReader.readSnapshot(
+                writeTempFile("{ \"persons\": [], \"lastRecordNumber\": 7 }"), StorageSettings.DEFAULT)
+                .get().getLastRecordNumber());
+    }
+
+    @Test
+    public void read_noPersonsField_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(writeTempFile("{}"), StorageSettings.DEFAULT).get());
+    }
+
+    @Test
+    public void read_notAnObject_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        JsonAddressBookReader.read(writeTempFile("[]"), StorageSettings.DEFAULT);
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        JsonAddressBookReader.read(writeTempFile("{ \"persons\": [ { \"name\": \"Amy Bee\" }, "),
+                StorageSettings.DEFAULT);
+    }
+
+    @Test
+    public void read_nullPerson_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        JsonAddressBookReader.read(writeTempFile("{ \"persons\": [ null ] }"), StorageSettings.DEFAULT);
+    }
+
+    @Test
+    public void read_multipleInvalidPersons_throwsInvalidRecordsException() throws Exception {
+        thrown.expect(InvalidRecordsException.class);
+        JsonAddressBookReader.read(MULTIPLE_INVALID_PERSONS_FILE, StorageSettings.DEFAULT);
+    }
+
+    @Test
+    public void read_markedAsValidated_fieldsNotValidated() throws Exception {
+        Path filePath = writeMarkedFile(JsonAdaptedPerson.VALIDATION_VERSION, INVALID_PERSON);
+        AddressBook addressBook = JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get();
+        assertEquals("R@chel", addressBook.getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void read_markedAsValidatedByOtherVersion_throwsInvalidRecordsException() throws Exception {
+        Path filePath = writeMarkedFile(JsonAdaptedPerson.VALIDATION_VERSION + 1, INVALID_PERSON);
+        thrown.expect(InvalidRecordsException.class);
+        JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT);
+    }
+
+    @Test
+    public void read_invalidValueWrittenAfterValidation_throwsInvalidRecordsException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        replaceInFile(filePath, "Alice Pauline", "Alice P@uline");
+
+        thrown.expect(InvalidRecordsException.class);
+        JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT);
+    }
+
+    @Test
+    public void read_validValueWrittenAfterValidation_valueRead() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        replaceInFile(filePath, "Alice Pauline", "Alice Paula");
+
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        expected.setPerson(TypicalPersons.ALICE,
+                new PersonBuilder(TypicalPersons.ALICE).withName("Alice Paula").build());
+        assertEquals(expected, JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        JsonAddressBookReader.read(DUPLICATE_PERSON_FILE, StorageSettings.DEFAULT);
+    }
+}
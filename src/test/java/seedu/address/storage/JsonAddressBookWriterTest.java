@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private String readFile(Path filePath) throws Exception {
+        return new String(Files.readAllBytes(filePath), UTF_8);
+    }
+
+    /**
+     * Returns {@code json}, an address book object written by {@link JsonUtil}, with the validation marker and
+     * checksum of {@code addressBook} inserted before its persons.
+     */
+    private static String withValidationMarker(String json, AddressBook addressBook, boolean isCompact) {
+        int personsStart = json.indexOf('"');
+        String fieldSeparator = "," + json.substring(1, personsStart);
+        String valueSeparator = isCompact ? ":" : " : ";
+        return json.substring(0, personsStart)
+                + "\"validatedBy\"" + valueSeparator + JsonAdaptedPerson.VALIDATION_VERSION + fieldSeparator
+                + "\"checksum\"" + valueSeparator + JsonAddressBookWriter.getChecksum(addressBook.getPersonList())
+                + fieldSeparator + json.substring(personsStart);
+    }
+
+    @Test
+    public void write_pretty_sameAsJsonSerializableAddressBookWithMarker() throws Exception {
+        Path filePath = getTempFilePath("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.write(addressBook.getPersonList(), filePath, false, true);
+        assertEquals(withValidationMarker(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                addressBook, false), readFile(filePath));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        Path filePath = getTempFilePath("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.write(addressBook.getPersonList(), filePath, true, true);
+        assertEquals(withValidationMarker(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                addressBook, true), readFile(filePath));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get());
+    }
+
+    @Test
+    public void write_existingFile_replacedWithoutTempFilesLeft() throws Exception {
+        Path filePath = getTempFilePath("addressbook.json");
+        Files.write(filePath, "old contents that are longer than an empty address book".getBytes(UTF_8));
+        JsonAddressBookWriter.write(new AddressBook().getPersonList(), filePath, false, true);
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get());
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertEquals(1L, files.count());
+        }
+    }
+
+    @Test
+    public void write_missingParentDirectories_created() throws Exception {
+        Path filePath = getTempFilePath("missing").resolve("directory").resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook().getPersonList(), filePath, false, true);
+        assertEquals(getTypicalAddressBook(), JsonAddressBookReader.read(filePath, StorageSettings.DEFAULT).get());
+    }
+
+    @Test
+    public void writeTempFile_lastRecordNumber_readAsJournalSnapshot() throws Exception {
+        Path filePath = getTempFilePath("addressbook.json");
+        Path tempFile = JsonAddressBookWriter.writeTempFile(getTypicalAddressBook().getPersonList(),
+                OptionalLong.of(42), filePath, true, true);
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(tempFile));
+
+        JsonAddressBookReader.Snapshot snapshot =
+                JsonAddressBookReader.readSnapshot(tempFile, StorageSettings.DEFAULT).get();
+        assertEquals(OptionalLong.of(42), snapshot.getLastRecordNumber());
+        assertEquals(getTypicalAddressBook(), snapshot.getAddressBook());
+    }
+}
@@ -1,17 +1,26 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.commons.exceptions.InvalidRecordsException.RecordError;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +28,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path MULTIPLE_INVALID_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("multipleInvalidPersonsAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
     @Rule
@@ -41,6 +52,22 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_multipleInvalidPersons_reportsEveryError() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MULTIPLE_INVALID_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        try {
+            dataFromFile.toModelType();
+            fail("The expected InvalidRecordsException was not thrown.");
+        } catch (InvalidRecordsException ire) {
+            assertEquals(Arrays.asList(
+                    new RecordError(1, Phone.MESSAGE_CONSTRAINTS),
+                    new RecordError(3, String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName())),
+                    new RecordError(3, Email.MESSAGE_CONSTRAINTS)), ire.getErrors());
+            assertTrue(ire.getMessage().startsWith("2 invalid record(s) found:"));
+        }
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
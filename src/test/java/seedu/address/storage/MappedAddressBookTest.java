@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class MappedAddressBookTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path saveTypicalAddressBook() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("archive.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        return filePath;
+    }
+
+    @Test
+    public void open_binaryAddressBook_samePersons() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), addressBook.getPersonList().size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBook));
+    }
+
+    @Test
+    public void open_emptyAddressBook_noPersons() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("archive.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertEquals(0, MappedAddressBook.open(filePath).getPersonList().size());
+    }
+
+    @Test
+    public void open_smallRegions_samePersons() throws Exception {
+        // regions much smaller than a record, so that most records are copied across regions
+        Path filePath = saveTypicalAddressBook();
+        MappedAddressBook addressBook = MappedAddressBook.open(filePath, MappedFile.map(filePath, 16, 8), 2);
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBook));
+    }
+
+    @Test
+    public void getPersonList_predicate_matchingPersons() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        FilteredList<Person> filtered = new FilteredList<>(addressBook.getPersonList(), ALICE::equals);
+        assertEquals(1, filtered.size());
+        assertEquals(ALICE, filtered.get(0));
+    }
+
+    @Test
+    public void getPersonList_accessedTwice_decodedOnce() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        assertSame(addressBook.getPersonList().get(0), addressBook.getPersonList().get(0));
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        thrown.expect(UnsupportedOperationException.class);
+        addressBook.getPersonList().remove(0);
+    }
+
+    @Test
+    public void getPersonList_corruptRecordOffset_openedButPersonCannotBeRead() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long indexOffset = buffer.getLong(bytes.length - BinaryAddressBookCodec.FOOTER_BYTES);
+        int stringCount = buffer.getInt(bytes.length - BinaryAddressBookCodec.FOOTER_BYTES + Long.BYTES);
+        buffer.putLong((int) indexOffset + stringCount * BinaryAddressBookCodec.OFFSET_BYTES, bytes.length);
+        Files.write(filePath, bytes);
+
+        MappedAddressBook addressBook = MappedAddressBook.open(filePath);
+        assertEquals(getTypicalAddressBook().getPersonList().get(1), addressBook.getPersonList().get(1));
+        try {
+            addressBook.getPersonList().get(0);
+            fail("The expected IllegalStateException was not thrown.");
+        } catch (IllegalStateException ise) {
+            // expected, as only the first person is corrupt
+        }
+    }
+
+    @Test
+    public void close_personNotCached_throwsIllegalStateException() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        addressBook.getPersonList().get(0);
+        addressBook.close();
+        thrown.expect(IllegalStateException.class);
+        addressBook.getPersonList().get(0);
+    }
+
+    @Test
+    public void decodeAll_binaryAddressBook_samePersons() throws Exception {
+        PersonListDecoder decoder = StorageSettings.DEFAULT.createDecoder();
+        try (MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook())) {
+            addressBook.decodeAll(decoder);
+        }
+        assertEquals(getTypicalAddressBook(), decoder.toAddressBook());
+    }
+
+    @Test
+    public void open_jsonFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        thrown.expect(IOException.class);
+        MappedAddressBook.open(filePath);
+    }
+
+    @Test
+    public void open_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        thrown.expect(IOException.class);
+        MappedAddressBook.open(filePath);
+    }
+
+    @Test
+    public void open_versionWithoutOffsetTable_throwsIoException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("archive.bin");
+        Files.write(filePath, new byte[] {(byte) 0x89, 'A', 'B', 'K', 1, 0, 0});
+        thrown.expect(IOException.class);
+        thrown.expectMessage("offset table");
+        MappedAddressBook.open(filePath);
+    }
+}
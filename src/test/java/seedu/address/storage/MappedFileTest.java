@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileTest {
+
+    private static final int FILE_SIZE = 100;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    /**
+     * Maps a file whose byte at each offset is the offset itself, in regions of 32 bytes overlapping by 8.
+     */
+    private MappedFile mapTestFile() throws Exception {
+        byte[] bytes = new byte[FILE_SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        Path filePath = testFolder.getRoot().toPath().resolve("file.bin");
+        Files.write(filePath, bytes);
+        return MappedFile.map(filePath, 32, 8);
+    }
+
+    /**
+     * Asserts that the slice of {@code file} at {@code offset} holds the {@code length} bytes written there.
+     */
+    private void assertSlice(MappedFile file, long offset, int length) {
+        ByteBuffer slice = file.slice(offset, length);
+        assertEquals(length, slice.remaining());
+        for (int i = 0; i < length; i++) {
+            assertEquals((byte) (offset + i), slice.get());
+        }
+    }
+
+    @Test
+    public void slice_withinRegion_correctBytes() throws Exception {
+        assertSlice(mapTestFile(), 3, 20);
+    }
+
+    @Test
+    public void slice_withinOverlap_correctBytes() throws Exception {
+        assertSlice(mapTestFile(), 28, 10);
+    }
+
+    @Test
+    public void slice_acrossRegions_correctBytes() throws Exception {
+        assertSlice(mapTestFile(), 5, 90);
+    }
+
+    @Test
+    public void slice_endOfFile_correctBytes() throws Exception {
+        MappedFile file = mapTestFile();
+        assertSlice(file, 90, 10);
+        assertSlice(file, FILE_SIZE, 0);
+    }
+
+    @Test
+    public void slice_pastEndOfFile_throwsIndexOutOfBoundsException() throws Exception {
+        MappedFile file = mapTestFile();
+        thrown.expect(IndexOutOfBoundsException.class);
+        file.slice(95, 6);
+    }
+
+    @Test
+    public void getLong_acrossRegions_bigEndian() throws Exception {
+        assertEquals(0x1E1F202122232425L, mapTestFile().getLong(30));
+    }
+
+    @Test
+    public void close_closedTwice_sliceThrowsIllegalStateException() throws Exception {
+        MappedFile file = mapTestFile();
+        file.close();
+        file.close();
+        thrown.expect(IllegalStateException.class);
+        file.slice(0, 1);
+    }
+
+    @Test
+    public void map_emptyFile_noBytes() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("empty.bin");
+        Files.write(filePath, new byte[0]);
+        assertEquals(0L, MappedFile.map(filePath).size());
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidRecordsException;
+import seedu.address.commons.exceptions.InvalidRecordsException.RecordError;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.model.util.ValueInterner;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListDecoderTest {
+
+    private static final int PERSON_COUNT = PersonListDecoder.CHUNK_SIZE * 3 + 7;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Returns {@code PERSON_COUNT} distinct persons, which are invalid at the given positions.
+     */
+    private static List<JsonAdaptedPerson> getJsonPersons(int... invalidPositions) {
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            jsonPersons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        for (int position : invalidPositions) {
+            jsonPersons.set(position, new JsonAdaptedPerson("R@chel " + position, "+651234", "example.com",
+                    "address", null));
+        }
+        return jsonPersons;
+    }
+
+    private static AddressBook decode(List<JsonAdaptedPerson> jsonPersons, boolean isParallel)
+            throws IllegalValueException {
+        PersonListDecoder decoder = new PersonListDecoder(ValueInterner.DISABLED, isParallel);
+        jsonPersons.forEach(decoder::add);
+        return decoder.toAddressBook();
+    }
+
+    /**
+     * Decodes {@code jsonPersons} in trusted mode, expecting the checksum that they have if {@code isUnmodified} is
+     * true, or another checksum otherwise.
+     */
+    private static AddressBook decodeTrusted(List<JsonAdaptedPerson> jsonPersons, boolean isUnmodified,
+            boolean isParallel) throws IllegalValueException {
+        CRC32C checksum = new CRC32C();
+        jsonPersons.forEach(jsonPerson -> jsonPerson.updateChecksum(checksum));
+        PersonListDecoder decoder = new PersonListDecoder(ValueInterner.DISABLED, isParallel,
+                isUnmodified ? checksum.getValue() : ~checksum.getValue());
+        jsonPersons.forEach(decoder::add);
+        return decoder.toAddressBook();
+    }
+
+    private static List<RecordError> decodeErrors(List<JsonAdaptedPerson> jsonPersons, boolean isParallel)
+            throws IllegalValueException {
+        try {
+            decode(jsonPersons, isParallel);
+            fail("Expected InvalidRecordsException");
+            return null;
+        } catch (InvalidRecordsException ire) {
+            return ire.getErrors();
+        }
+    }
+
+    @Test
+    public void toAddressBook_parallel_samePersonsInSameOrder() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getJsonPersons();
+        AddressBook expected = decode(jsonPersons, false);
+        assertEquals(PERSON_COUNT, expected.getPersonList().size());
+        assertEquals(expected, decode(jsonPersons, true));
+    }
+
+    @Test
+    public void toAddressBook_parallelWithInvalidPersons_sameErrorsInSameOrder() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getJsonPersons(0, PersonListDecoder.CHUNK_SIZE - 1,
+                PersonListDecoder.CHUNK_SIZE, PERSON_COUNT - 1);
+        List<RecordError> expected = decodeErrors(jsonPersons, false);
+        assertEquals(4 * 3, expected.size());
+        assertEquals(PersonListDecoder.CHUNK_SIZE + 1, expected.get(6).recordNumber);
+        assertEquals(expected, decodeErrors(jsonPersons, true));
+    }
+
+    @Test
+    public void toAddressBook_parallelWithFewerPersonsThanChunk_success() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        jsonPersons.add(new JsonAdaptedPerson(ALICE));
+        jsonPersons.add(new JsonAdaptedPerson(BENSON));
+        assertEquals(decode(jsonPersons, false), decode(jsonPersons, true));
+    }
+
+    @Test
+    public void toAddressBook_parallelWithDuplicatePersonsInDifferentChunks_throwsIllegalValueException()
+            throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getJsonPersons();
+        jsonPersons.set(PERSON_COUNT - 1, jsonPersons.get(0));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        decode(jsonPersons, true);
+    }
+
+    @Test
+    public void toAddressBook_trustedWithExpectedChecksum_fieldsNotValidated() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getJsonPersons(1, PERSON_COUNT - 1);
+        for (boolean isParallel : new boolean[] {false, true}) {
+            AddressBook addressBook = decodeTrusted(jsonPersons, true, isParallel);
+            assertEquals(PERSON_COUNT, addressBook.getPersonList().size());
+            assertEquals("R@chel 1", addressBook.getPersonList().get(1).getName().fullName);
+        }
+    }
+
+    @Test
+    public void toAddressBook_trustedWithOtherChecksum_fieldsValidated() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getJsonPersons(1, PERSON_COUNT - 1);
+        List<RecordError> expected = decodeErrors(jsonPersons, false);
+        for (boolean isParallel : new boolean[] {false, true}) {
+            try {
+                decodeTrusted(jsonPersons, false, isParallel);
+                fail("Expected InvalidRecordsException");
+            } catch (InvalidRecordsException ire) {
+                assertEquals(expected, ire.getErrors());
+            }
+        }
+    }
+
+    @Test
+    public void toAddressBook_trustedWithOtherChecksumAndInvalidTag_tagValidated() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getJsonPersons();
+        jsonPersons.set(2, new JsonAdaptedPerson("Amy", "123", "amy@example.com", "address",
+                Collections.singletonList(new JsonAdaptedTag("decoder invalid"))));
+        List<RecordError> expected = decodeErrors(jsonPersons, false);
+        assertEquals(1, expected.size());
+        try {
+            decodeTrusted(jsonPersons, false, false);
+            fail("Expected InvalidRecordsException");
+        } catch (InvalidRecordsException ire) {
+            assertEquals(expected, ire.getErrors());
+        }
+    }
+
+    @Test
+    public void add_trusted_personConvertedWhenAdded() throws Exception {
+        JsonAdaptedPerson jsonPerson = new JsonAdaptedPerson("Amy", "123", "amy@example.com", "address",
+                Collections.singletonList(new JsonAdaptedTag("decoderConverted")));
+        CRC32C checksum = new CRC32C();
+        jsonPerson.updateChecksum(checksum);
+        PersonListDecoder decoder = StorageSettings.DEFAULT.createTrustedDecoder(checksum.getValue());
+        decoder.add(jsonPerson);
+        assertTrue(TagRegistry.findId(new Tag("decoderConverted")) >= 0);
+
+        AddressBook addressBook = decoder.toAddressBook();
+        assertTrue(addressBook.getPersonList().get(0).getTags().contains(new Tag("decoderConverted")));
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private List<String> readSegmentFiles(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableSegmentManifest.class).get().getSegments();
+    }
+
+    /**
+     * Returns the number of segment files that differ between {@code before} and {@code after}.
+     */
+    private int countChangedSegments(List<String> before, List<String> after) {
+        int count = 0;
+        for (int i = 0; i < before.size(); i++) {
+            if (!before.get(i).equals(after.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            return files.count();
+        }
+    }
+
+    private ReadOnlyAddressBook read(Path filePath) throws Exception {
+        return new ShardedAddressBookStorage(filePath, SEGMENT_COUNT).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(getTempFilePath("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonAddressBook_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        thrown.expect(DataConversionException.class);
+        new ShardedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new ShardedAddressBookStorage(filePath, SEGMENT_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath.resolveSibling(readSegmentFiles(filePath).get(0)));
+        thrown.expect(DataConversionException.class);
+        read(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBookAndFiles() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new ShardedAddressBookStorage(filePath, SEGMENT_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), read(filePath));
+        assertEquals(AddressBookFormat.SHARDED, AddressBookFormat.detect(filePath));
+        assertEquals(SEGMENT_COUNT + 1L, countFiles());
+    }
+
+    @Test
+    public void saveAddressBook_singleEdit_onlyItsSegmentRewritten() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> segmentFiles = readSegmentFiles(filePath);
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, countChangedSegments(segmentFiles, readSegmentFiles(filePath)));
+        assertEquals(addressBook, read(filePath));
+        assertEquals(SEGMENT_COUNT + 1L, countFiles());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingRewritten() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> segmentFiles = readSegmentFiles(filePath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(segmentFiles, readSegmentFiles(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_appendAndRemove_orderKept() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadWithoutChangeLog_changedSegmentsFoundByComparison() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new ShardedAddressBookStorage(filePath, SEGMENT_COUNT).saveAddressBook(getTypicalAddressBook());
+        List<String> segmentFiles = readSegmentFiles(filePath);
+
+        // a fresh storage, saving a copy of what it read, knows no changes and compares the persons instead
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SEGMENT_COUNT);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, countChangedSegments(segmentFiles, readSegmentFiles(filePath)));
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_insertedAtFront_orderKept() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(0, HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(HOON, read(filePath).getPersonList().get(0));
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherSegmentCount_converted() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        new ShardedAddressBookStorage(filePath, SEGMENT_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2);
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertEquals(2, readSegmentFiles(filePath).size());
+        assertEquals(getTypicalAddressBook(), read(filePath));
+        assertEquals(3L, countFiles());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_allSegmentsWritten() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SEGMENT_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path otherFilePath = getTempFilePath("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook(otherFilePath).get());
+    }
+}
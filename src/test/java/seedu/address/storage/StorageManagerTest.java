@@ -2,8 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.Before;
@@ -62,6 +65,47 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_otherFormat_convertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        StorageManager binaryStorageManager = new StorageManager(new BinaryAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        ReadOnlyAddressBook retrieved = binaryStorageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+
+        binaryStorageManager.saveAddressBook(retrieved);
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormat.detect(filePath));
+        assertEquals(original, new AddressBook(binaryStorageManager.readAddressBook().get()));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_journaledAddressBook_journalReplayed() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        assertEquals(AddressBookFormat.JOURNAL, AddressBookFormat.detect(filePath));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_cachedAddressBook_cacheFileWritten() throws Exception {
+        Path filePath = getTempFilePath("cached");
+        StorageManager storage = new StorageManager(
+                new CachedAddressBookStorage(new JsonAddressBookStorage(filePath)),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        assertTrue(Files.exists(CachedAddressBookStorage.getCacheFilePath(filePath)));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
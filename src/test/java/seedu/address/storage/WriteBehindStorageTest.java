@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.DurabilityLevel;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class WriteBehindStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final AddressBookStorageStub addressBookStorage = new AddressBookStorageStub();
+    private WriteBehindStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs"))));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private WriteBehindStorage createStorage(DurabilityLevel durabilityLevel, long groupCommitIntervalMillis,
+            int groupCommitCommandLimit) {
+        return new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs"))), durabilityLevel, groupCommitIntervalMillis,
+                groupCommitCommandLimit);
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalescedIntoOneWrite() throws Exception {
+        addressBookStorage.blockWrites();
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBookStorage.awaitWriteStarted();
+
+        // the first save is being written, and the saves made meanwhile are pending
+        List<AddressBook> changes = Arrays.asList(withPersons(ALICE), withPersons(ALICE, BENSON),
+                getTypicalAddressBook());
+        for (AddressBook change : changes) {
+            storage.saveAddressBook(change);
+        }
+        assertEquals(4, storage.getSaveStatus().getUnsavedChangeCount());
+
+        addressBookStorage.unblockWrites();
+        storage.flushAddressBook();
+
+        // only the first and the most recent address books are written
+        assertEquals(2, addressBookStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+        assertEquals(SaveStatus.saved(), storage.getSaveStatus());
+    }
+
+    @Test
+    public void saveAddressBook_addressBookChangedAfterSave_savedAddressBookUnchanged() throws Exception {
+        addressBookStorage.blockWrites();
+        AddressBook addressBook = withPersons(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        addressBookStorage.unblockWrites();
+        storage.flushAddressBook();
+        assertEquals(withPersons(ALICE), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+    }
+
+    @Test
+    public void readAddressBook_afterSave_returnsSavedAddressBook() throws Exception {
+        WriteBehindStorage jsonStorage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs"))));
+        jsonStorage.saveAddressBook(withPersons(ALICE));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void addSaveStatusListener_writeFails_failureReported() throws Exception {
+        List<SaveStatus> statuses = Collections.synchronizedList(new ArrayList<>());
+        storage.addSaveStatusListener(statuses::add);
+        addressBookStorage.failWrites();
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook(); // waits for the write
+
+        SaveStatus lastStatus = statuses.get(statuses.size() - 1);
+        assertEquals(1, lastStatus.getUnsavedChangeCount());
+        assertTrue(lastStatus.getFailure().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_previousWriteFailed_throwsIoException() throws Exception {
+        addressBookStorage.failWrites();
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook(); // waits for the write
+
+        thrown.expect(IOException.class);
+        storage.saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void flushAddressBook_lastWriteFailed_throwsIoException() throws Exception {
+        addressBookStorage.failWrites();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        thrown.expect(IOException.class);
+        storage.flushAddressBook();
+    }
+
+    @Test
+    public void flushAddressBook_lastWriteFailedOnce_writtenAgain() throws Exception {
+        addressBookStorage.failNextWrites(1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook(); // waits for the write, which fails
+        assertEquals(1, storage.getSaveStatus().getUnsavedChangeCount());
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+        assertEquals(SaveStatus.saved(), storage.getSaveStatus());
+    }
+
+    @Test
+    public void flushAddressBook_onExitWritesFail_retriedBeforeGivingUp() throws Exception {
+        storage = createStorage(DurabilityLevel.ON_EXIT, 0, 1);
+        addressBookStorage.failNextWrites(WriteBehindStorage.FLUSH_ATTEMPT_COUNT - 1);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+        assertEquals(SaveStatus.saved(), storage.getSaveStatus());
+    }
+
+    @Test
+    public void flushAddressBook_failedSnapshotReplaced_onlyNewerSnapshotWritten() throws Exception {
+        addressBookStorage.blockWrites();
+        addressBookStorage.failNextWrites(1);
+        storage.saveAddressBook(withPersons(ALICE));
+        addressBookStorage.awaitWriteStarted();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        addressBookStorage.unblockWrites();
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+        assertEquals(SaveStatus.saved(), storage.getSaveStatus());
+    }
+
+    @Test
+    public void flushAddressBook_nothingSaved_success() throws Exception {
+        storage.flushAddressBook();
+        assertFalse(storage.getSaveStatus().getFailure().isPresent());
+        assertTrue(addressBookStorage.savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_fsyncPerCommit_writtenBeforeReturning() throws Exception {
+        storage = createStorage(DurabilityLevel.FSYNC_PER_COMMIT, 0, 1);
+        storage.saveAddressBook(withPersons(ALICE));
+        assertEquals(1, addressBookStorage.savedAddressBooks.size());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(2, addressBookStorage.savedAddressBooks.size());
+        assertEquals(SaveStatus.saved(), storage.getSaveStatus());
+    }
+
+    @Test
+    public void saveAddressBook_fsyncPerCommitWriteFails_throwsIoException() throws Exception {
+        storage = createStorage(DurabilityLevel.FSYNC_PER_COMMIT, 0, 1);
+        addressBookStorage.failWrites();
+
+        thrown.expect(IOException.class);
+        storage.saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_onExit_writtenOnlyWhenFlushed() throws Exception {
+        storage = createStorage(DurabilityLevel.ON_EXIT, 0, 1);
+        storage.saveAddressBook(withPersons(ALICE));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(addressBookStorage.savedAddressBooks.isEmpty());
+        assertEquals(2, storage.getSaveStatus().getUnsavedChangeCount());
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+    }
+
+    @Test
+    public void saveAddressBook_groupCommitLimitReached_writtenTogether() throws Exception {
+        storage = createStorage(DurabilityLevel.GROUP_COMMIT, Long.MAX_VALUE, 3);
+        addressBookStorage.blockWrites();
+        storage.saveAddressBook(withPersons(ALICE));
+        storage.saveAddressBook(withPersons(ALICE, BENSON));
+        storage.saveAddressBook(getTypicalAddressBook());
+        addressBookStorage.awaitWriteStarted();
+
+        addressBookStorage.unblockWrites();
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+    }
+
+    @Test
+    public void saveAddressBook_groupCommitIntervalPassed_written() throws Exception {
+        storage = createStorage(DurabilityLevel.GROUP_COMMIT, 10, Integer.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        addressBookStorage.awaitWriteStarted(); // started by the interval, as nothing else starts it
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.getLastSavedAddressBook()));
+    }
+
+    @Test
+    public void readAddressBook_onExitAfterSave_returnsSavedAddressBook() throws Exception {
+        WriteBehindStorage jsonStorage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs"))),
+                DurabilityLevel.ON_EXIT, 0, 1);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    private static AddressBook withPersons(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records every address book saved to it, and can be made to block or fail.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+        private final Semaphore writeStarted = new Semaphore(0);
+        private final Semaphore writeAllowed = new Semaphore(Integer.MAX_VALUE);
+        /** Number of the next writes that fail. */
+        private volatile int failingWriteCount;
+
+        void blockWrites() throws InterruptedException {
+            writeAllowed.acquire(Integer.MAX_VALUE);
+        }
+
+        void unblockWrites() {
+            writeAllowed.release(Integer.MAX_VALUE);
+        }
+
+        void awaitWriteStarted() throws InterruptedException {
+            writeStarted.acquire();
+        }
+
+        void failWrites() {
+            failingWriteCount = Integer.MAX_VALUE;
+        }
+
+        void failNextWrites(int count) {
+            failingWriteCount = count;
+        }
+
+        ReadOnlyAddressBook getLastSavedAddressBook() {
+            return savedAddressBooks.get(savedAddressBooks.size() - 1);
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("stub");
+        }
+
+        @Override
+        public AddressBookFormat getAddressBookFormat() {
+            return AddressBookFormat.JSON;
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.release();
+            writeAllowed.acquireUninterruptibly();
+            writeAllowed.release();
+            if (failingWriteCount > 0) {
+                failingWriteCount--;
+                throw new IOException("Stub write failure");
+            }
+            savedAddressBooks.add(addressBook);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
@@ -32,6 +35,37 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Returns {@code count} pseudo-random strings of up to {@code maxLength} characters drawn from {@code alphabet}.
+     * The same arguments always give the same strings.
+     */
+    public static List<String> getRandomStrings(String alphabet, int maxLength, int count) {
+        Random random = new Random(2103);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            char[] chars = new char[random.nextInt(maxLength + 1)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            strings.add(new String(chars));
+        }
+        return strings;
+    }
+
+    /**
+     * Returns {@code count} distinct persons whose fields are made from their position in the list, and which share
+     * a few tags.
+     */
+    public static List<Person> getGeneratedPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").withAddress(i + " Generated Street")
+                    .withTags(i % 2 == 0 ? "friends" : "colleagues").build());
+        }
+        return persons;
+    }
+
     /**
      * Returns the middle index of the person in the {@code model}'s person list.
      */
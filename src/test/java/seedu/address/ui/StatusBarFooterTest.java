@@ -2,9 +2,13 @@ package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_FAILED;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_PENDING;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_SAVED;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
@@ -19,6 +23,7 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.address.model.AddressBook;
+import seedu.address.storage.SaveStatus;
 
 public class StatusBarFooterTest extends GuiUnitTest {
 
@@ -28,6 +33,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
     private static final Clock originalClock = StatusBarFooter.getClock();
     private static final Clock injectedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
+    private StatusBarFooter statusBarFooter;
     private StatusBarFooterHandle statusBarFooterHandle;
     private final AddressBook addressBook = new AddressBook();
 
@@ -45,7 +51,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, addressBook);
+        statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, addressBook);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -62,6 +68,24 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void showSaveStatus() {
+        // initial state
+        assertEquals(SAVE_STATUS_SAVED, statusBarFooterHandle.getSaveStatus());
+
+        // changes not yet saved
+        guiRobot.interact(() -> statusBarFooter.showSaveStatus(new SaveStatus(2, null)));
+        assertEquals(String.format(SAVE_STATUS_PENDING, 2), statusBarFooterHandle.getSaveStatus());
+
+        // save failed
+        guiRobot.interact(() -> statusBarFooter.showSaveStatus(new SaveStatus(3, new IOException("Disk full"))));
+        assertEquals(String.format(SAVE_STATUS_FAILED, 3, "Disk full"), statusBarFooterHandle.getSaveStatus());
+
+        // all changes saved
+        guiRobot.interact(() -> statusBarFooter.showSaveStatus(SaveStatus.saved()));
+        assertEquals(SAVE_STATUS_SAVED, statusBarFooterHandle.getSaveStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.